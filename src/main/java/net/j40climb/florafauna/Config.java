@@ -100,6 +100,10 @@ public class Config {
             .comment("If true, only collect items from block drops (not player drops or other sources)")
             .define("blockDropsOnly", true);
 
+    private static final ModConfigSpec.IntValue MINING_ANCHOR_POD_SYNC_INTERVAL = BUILDER
+            .comment("Minimum ticks between client syncs of a pod's contents while items are being absorbed")
+            .defineInRange("podSyncIntervalTicks", 1, 1, 40);
+
     static {
         BUILDER.pop();
     }
@@ -146,6 +150,18 @@ public class Config {
             .comment("Ticks between checking for mobs ready to release")
             .defineInRange("releaseCheckIntervalTicks", 20, 1, 100);
 
+    private static final ModConfigSpec.IntValue MOB_RELEASE_MAX_PER_CHECK = BUILDER
+            .comment("Maximum number of ready mobs a MobOutput releases per release check")
+            .defineInRange("releaseMaxPerCheck", 1, 1, 64);
+
+    private static final ModConfigSpec.IntValue MOB_RELEASE_TIME_BUDGET_MICROS = BUILDER
+            .comment("Time budget in microseconds for releasing mobs in one release check (at least one mob is always released)")
+            .defineInRange("releaseTimeBudgetMicros", 500, 50, 20000);
+
+    private static final ModConfigSpec.IntValue MOB_RELEASE_SPREAD_RADIUS = BUILDER
+            .comment("Radius in blocks searched for free spots when releasing mobs (0 = always release on top of the MobOutput)")
+            .defineInRange("releaseSpreadRadius", 2, 0, 4);
+
     // Eligibility settings
     private static final ModConfigSpec.BooleanValue MOB_ALLOW_UNBONDED_CAPTURE = BUILDER
             .comment("If true, unbonded mobs can be captured (bonded still prioritized)")
@@ -170,6 +186,10 @@ public class Config {
             .comment("Ticks between fear state updates")
             .defineInRange("checkIntervalTicks", 10, 1, 40);
 
+    private static final ModConfigSpec.IntValue FEAR_CHECK_BUDGET_MICROS = BUILDER
+            .comment("Time budget in microseconds for fear checks per level tick; checks over budget carry over to the next tick")
+            .defineInRange("checkBudgetMicros", 1000, 50, 20000);
+
     private static final ModConfigSpec.IntValue PANIC_DURATION_FOR_LEAK = BUILDER
             .comment("Ticks in PANICKED before triggering LEAK event")
             .defineInRange("panicDurationForLeak", 200, 40, 600);
@@ -344,6 +364,7 @@ public class Config {
     public static int miningAnchorCollectRadius;
     public static int miningAnchorCollectInterval;
     public static boolean miningAnchorBlockDropsOnly;
+    public static int miningAnchorPodSyncInterval;
 
     // Mob Transport System
     public static int lureRadius;
@@ -354,11 +375,15 @@ public class Config {
     public static int maxTravelDelayTicks;
     public static int maxQueueSizePerInput;
     public static int releaseCheckIntervalTicks;
+    public static int releaseMaxPerCheck;
+    public static int releaseTimeBudgetMicros;
+    public static int releaseSpreadRadius;
     public static boolean allowUnbondedCapture;
     public static int recentlyReleasedImmunityTicks;
 
     // Fear System
     public static int fearCheckIntervalTicks;
+    public static int fearCheckBudgetMicros;
     public static int panicDurationForLeak;
     public static int exhaustedCooldownTicks;
     public static int maxLeaksBeforeOverstress;
@@ -413,6 +438,7 @@ public class Config {
         miningAnchorCollectRadius = MINING_ANCHOR_COLLECT_RADIUS.get();
         miningAnchorCollectInterval = MINING_ANCHOR_COLLECT_INTERVAL.get();
         miningAnchorBlockDropsOnly = MINING_ANCHOR_BLOCK_DROPS_ONLY.get();
+        miningAnchorPodSyncInterval = MINING_ANCHOR_POD_SYNC_INTERVAL.get();
 
         // Mob Transport System
         lureRadius = MOB_LURE_RADIUS.get();
@@ -423,11 +449,15 @@ public class Config {
         maxTravelDelayTicks = MOB_MAX_TRAVEL_DELAY_TICKS.get();
         maxQueueSizePerInput = MOB_MAX_QUEUE_SIZE.get();
         releaseCheckIntervalTicks = MOB_RELEASE_CHECK_INTERVAL_TICKS.get();
+        releaseMaxPerCheck = MOB_RELEASE_MAX_PER_CHECK.get();
+        releaseTimeBudgetMicros = MOB_RELEASE_TIME_BUDGET_MICROS.get();
+        releaseSpreadRadius = MOB_RELEASE_SPREAD_RADIUS.get();
         allowUnbondedCapture = MOB_ALLOW_UNBONDED_CAPTURE.get();
         recentlyReleasedImmunityTicks = MOB_RECENTLY_RELEASED_IMMUNITY_TICKS.get();
 
         // Fear System
         fearCheckIntervalTicks = FEAR_CHECK_INTERVAL_TICKS.get();
+        fearCheckBudgetMicros = FEAR_CHECK_BUDGET_MICROS.get();
         panicDurationForLeak = PANIC_DURATION_FOR_LEAK.get();
         exhaustedCooldownTicks = EXHAUSTED_COOLDOWN_TICKS.get();
         maxLeaksBeforeOverstress = MAX_LEAKS_BEFORE_OVERSTRESS.get();
@@ -10,6 +10,7 @@ import net.j40climb.florafauna.noclip.ClippingEntity;
 import net.j40climb.florafauna.noclip.NoClipClientState;
 import net.j40climb.florafauna.noclip.NoClipPayload;
 import net.j40climb.florafauna.common.block.mininganchor.AbstractMiningAnchorBlockEntity;
+import net.j40climb.florafauna.common.mobsymbiote.fear.FearScheduler;
 import net.j40climb.florafauna.common.symbiote.data.PlayerSymbioteData;
 import net.j40climb.florafauna.common.symbiote.binding.SymbioteBindingHelper;
 import net.j40climb.florafauna.common.symbiote.data.SymbioteState;
@@ -151,6 +152,9 @@ public class FloraFaunaCommands {
                                         .executes(FloraFaunaCommands::growMiningAnchorPod))
                                 .then(Commands.literal("status")
                                         .executes(FloraFaunaCommands::miningAnchorStatus)))
+                        .then(Commands.literal("fear")
+                                .then(Commands.literal("stats")
+                                        .executes(FloraFaunaCommands::fearStats)))
         );
     }
 
@@ -795,6 +799,18 @@ public class FloraFaunaCommands {
         return 1;
     }
 
+    // ==================== Fear Commands ====================
+
+    private static int fearStats(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        FearScheduler.Stats stats = FearScheduler.getStats(source.getLevel());
+
+        source.sendSuccess(() -> Component.translatable("command.florafauna.fear.stats",
+                stats.tracked(), stats.checksRun(), stats.checksDeferred())
+                .withStyle(style -> style.withColor(0x9B59B6)), false);
+        return 1;
+    }
+
     // ==================== Client Commands ====================
 
     /**
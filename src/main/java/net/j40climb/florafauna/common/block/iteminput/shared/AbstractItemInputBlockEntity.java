@@ -2,7 +2,7 @@ package net.j40climb.florafauna.common.block.iteminput.shared;
 
 import net.j40climb.florafauna.Config;
 import net.j40climb.florafauna.common.block.iteminput.storageanchor.StorageAnchorBlockEntity;
-import net.j40climb.florafauna.common.block.iteminput.storageanchor.StorageDestination;
+import net.j40climb.florafauna.common.block.iteminput.storageanchor.CachedDestination;
 import net.j40climb.florafauna.common.block.vacuum.AbstractVacuumBlockEntity;
 import net.j40climb.florafauna.common.block.vacuum.VacuumState;
 import net.minecraft.core.BlockPos;
@@ -16,9 +16,13 @@ import net.minecraft.world.level.storage.ValueOutput;
 import net.neoforged.neoforge.transfer.ResourceHandler;
 import net.neoforged.neoforge.transfer.item.ItemResource;
 import net.neoforged.neoforge.transfer.transaction.Transaction;
+import net.neoforged.neoforge.transfer.transaction.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Abstract base class for item input block entities.
@@ -90,8 +94,8 @@ public abstract class AbstractItemInputBlockEntity extends AbstractVacuumBlockEn
             return;
         }
 
-        // Get destinations
-        List<StorageDestination> destinations = anchor.getAvailableDestinations();
+        // Get destinations (cached by the anchor until its destination set changes)
+        List<CachedDestination> destinations = anchor.getDestinationSnapshot();
         if (destinations.isEmpty()) {
             if (currentState != VacuumState.BLOCKED) {
                 updateBlockState(level, pos, state, VacuumState.BLOCKED);
@@ -100,38 +104,12 @@ public abstract class AbstractItemInputBlockEntity extends AbstractVacuumBlockEn
             return;
         }
 
-        // Try to transfer items
-        boolean transferredAny = false;
-        int stacksTransferred = 0;
-        int itemsTransferred = 0;
-
-        while (stacksTransferred < Config.maxStacksPerTransferTick &&
-               itemsTransferred < Config.maxItemsPerTransferTick &&
-               !buffer.isEmpty()) {
-
-            int firstSlot = buffer.getFirstNonEmptySlot();
-            if (firstSlot < 0) break;
-
-            ItemStack toTransfer = buffer.getStack(firstSlot);
-            if (toTransfer.isEmpty()) break;
-
-            int transferred = transferToDestinations(level, toTransfer, destinations);
-            if (transferred > 0) {
-                toTransfer.shrink(transferred);
-                if (toTransfer.isEmpty()) {
-                    buffer.setStack(firstSlot, ItemStack.EMPTY);
-                }
-                transferredAny = true;
-                itemsTransferred += transferred;
-                stacksTransferred++;
-                setChanged();
-            } else {
-                break; // Couldn't transfer, destinations may be full
-            }
-        }
+        // Transfer this tick's budget as one batch
+        boolean transferredAny = transferBatch(destinations) > 0;
 
         // Update state
         if (transferredAny) {
+            setChanged();
             currentBackoff = 0; // Reset backoff on success
             if (currentState != VacuumState.WORKING) {
                 updateBlockState(level, pos, state, VacuumState.WORKING);
@@ -145,39 +123,102 @@ public abstract class AbstractItemInputBlockEntity extends AbstractVacuumBlockEn
     }
 
     /**
-     * Transfers items to available destinations using NeoForge Transfer API.
-     * Uses Transaction.openRoot() for atomic operations.
+     * Buffer slots holding one item+components key, gathered for a batched transfer.
+     */
+    private static class TransferGroup {
+        final List<Integer> slots = new ArrayList<>();
+        int amount = 0;
+        int transferred = 0;
+    }
+
+    /**
+     * Transfers up to this tick's budget (maxStacksPerTransferTick / maxItemsPerTransferTick)
+     * under one outer transaction. Slots are grouped by item key so each destination sees
+     * one insert per key. A key that fits nowhere is skipped without blocking the others.
+     * The buffer is only shrunk after the outer transaction commits, so an exception from
+     * a destination rolls back every insert and leaves the buffer untouched.
      *
-     * @param level The level
-     * @param stack The stack to transfer
-     * @param destinations Available storage destinations
+     * @param destinations Available storage destinations with cached handlers
      * @return Number of items transferred
      */
-    protected int transferToDestinations(Level level, ItemStack stack, List<StorageDestination> destinations) {
+    protected int transferBatch(List<CachedDestination> destinations) {
+        // Gather the budget from the front of the buffer, grouped by key
+        Map<ItemResource, TransferGroup> groups = new LinkedHashMap<>();
+        int stacksGathered = 0;
+        int itemsGathered = 0;
+        for (int slot = buffer.getFirstNonEmptySlot();
+             slot >= 0 && slot < buffer.getMaxStacks()
+                     && stacksGathered < Config.maxStacksPerTransferTick
+                     && itemsGathered < Config.maxItemsPerTransferTick;
+             slot++) {
+            ItemStack stack = buffer.getStack(slot);
+            if (stack.isEmpty()) continue;
+
+            int amount = Math.min(stack.getCount(), Config.maxItemsPerTransferTick - itemsGathered);
+            TransferGroup group = groups.computeIfAbsent(ItemResource.of(stack), key -> new TransferGroup());
+            group.slots.add(slot);
+            group.amount += amount;
+            stacksGathered++;
+            itemsGathered += amount;
+        }
+
         int totalTransferred = 0;
-        int remaining = stack.getCount();
+        try (Transaction outer = Transaction.openRoot()) {
+            for (Map.Entry<ItemResource, TransferGroup> entry : groups.entrySet()) {
+                TransferGroup group = entry.getValue();
+                try (Transaction tx = Transaction.open(outer)) {
+                    int inserted = insertIntoDestinations(entry.getKey(), group.amount, destinations, tx);
+                    if (inserted > 0) {
+                        tx.commit();
+                        group.transferred = inserted;
+                        totalTransferred += inserted;
+                    }
+                    // If nothing was inserted, this key's transaction aborts on close
+                }
+            }
+            if (totalTransferred == 0) {
+                return 0;
+            }
+            outer.commit();
+        }
 
-        for (StorageDestination dest : destinations) {
-            if (remaining <= 0) break;
+        // Inserts are committed - remove the moved items from their slots in order
+        for (TransferGroup group : groups.values()) {
+            int toRemove = group.transferred;
+            for (int slot : group.slots) {
+                if (toRemove <= 0) break;
+                int removed = Math.min(toRemove, buffer.getStack(slot).getCount());
+                buffer.shrinkStack(slot, removed);
+                toRemove -= removed;
+            }
+        }
 
-            ResourceHandler<ItemResource> handler = dest.getResourceHandler(level, null);
-            if (handler == null) continue;
+        return totalTransferred;
+    }
 
-            // Use the Transfer API with Transaction
-            ItemResource resource = ItemResource.of(stack);
+    /**
+     * Inserts a resource into destinations in priority order within the given transaction.
+     *
+     * @param resource The item key to insert
+     * @param amount Maximum number of items to insert
+     * @param destinations Available storage destinations with cached handlers
+     * @param tx The transaction to insert under
+     * @return Number of items inserted
+     */
+    protected int insertIntoDestinations(ItemResource resource, int amount, List<CachedDestination> destinations,
+                                         TransactionContext tx) {
+        int inserted = 0;
 
-            try (Transaction tx = Transaction.openRoot()) {
-                int inserted = (int) handler.insert(resource, remaining, tx);
-                if (inserted > 0) {
-                    tx.commit();
-                    totalTransferred += inserted;
-                    remaining -= inserted;
-                }
-                // If nothing was inserted, transaction auto-aborts on close
-            }
+        for (CachedDestination dest : destinations) {
+            if (inserted >= amount) break;
+
+            ResourceHandler<ItemResource> handler = dest.handler();
+            if (handler == null) continue;
+
+            inserted += handler.insert(resource, amount - inserted, tx);
         }
 
-        return totalTransferred;
+        return inserted;
     }
 
     /**
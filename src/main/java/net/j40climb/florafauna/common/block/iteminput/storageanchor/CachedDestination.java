@@ -0,0 +1,29 @@
+package net.j40climb.florafauna.common.block.iteminput.storageanchor;
+
+import net.minecraft.core.Direction;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.transfer.ResourceHandler;
+import net.neoforged.neoforge.transfer.item.ItemResource;
+
+import javax.annotation.Nullable;
+
+/**
+ * A storage destination paired with a capability cache for its item handler.
+ * Handed out by StorageAnchorBlockEntity as part of its destination snapshot.
+ *
+ * @param destination The storage destination
+ * @param capabilityCache Cached item handler lookup at the destination's position
+ */
+public record CachedDestination(
+        StorageDestination destination,
+        BlockCapabilityCache<ResourceHandler<ItemResource>, Direction> capabilityCache
+) {
+    /**
+     * Gets the destination's item handler, or null if it is no longer available.
+     * Only queries the world again after the capability has been invalidated.
+     */
+    @Nullable
+    public ResourceHandler<ItemResource> handler() {
+        return capabilityCache.getCapability();
+    }
+}
@@ -0,0 +1,111 @@
+package net.j40climb.florafauna.common.block.iteminput.storageanchor;
+
+import net.j40climb.florafauna.FloraFauna;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * Routes block changes to the Storage Anchors whose scan radius covers them.
+ *
+ * Anchors register the chunk sections their scan cube overlaps. Every block
+ * change that notifies neighbors (placing, breaking, chests merging into double
+ * chests, pistons) is looked up by section and forwarded to the covering anchors,
+ * which re-check just that position on their next tick instead of re-sweeping
+ * the whole radius.
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public class ContainerDiscoveryEvents {
+
+    private static final Map<ResourceKey<Level>, Map<Long, Set<StorageAnchorBlockEntity>>> ANCHORS_BY_SECTION = new HashMap<>();
+
+    private ContainerDiscoveryEvents() {} // Utility class
+
+    // ==================== ANCHOR API ====================
+
+    /**
+     * Registers an anchor for block change notifications within its scan radius.
+     */
+    public static void register(ServerLevel level, StorageAnchorBlockEntity anchor, int radius) {
+        Map<Long, Set<StorageAnchorBlockEntity>> sections =
+                ANCHORS_BY_SECTION.computeIfAbsent(level.dimension(), key -> new HashMap<>());
+        forEachCoveredSection(anchor.getBlockPos(), radius,
+                section -> sections.computeIfAbsent(section, key -> new LinkedHashSet<>()).add(anchor));
+    }
+
+    /**
+     * Removes an anchor from block change notifications.
+     */
+    public static void unregister(ServerLevel level, StorageAnchorBlockEntity anchor, int radius) {
+        Map<Long, Set<StorageAnchorBlockEntity>> sections = ANCHORS_BY_SECTION.get(level.dimension());
+        if (sections == null) {
+            return;
+        }
+        forEachCoveredSection(anchor.getBlockPos(), radius, section -> {
+            Set<StorageAnchorBlockEntity> anchors = sections.get(section);
+            if (anchors != null) {
+                anchors.remove(anchor);
+                if (anchors.isEmpty()) {
+                    sections.remove(section);
+                }
+            }
+        });
+    }
+
+    private static void forEachCoveredSection(BlockPos center, int radius, LongConsumer action) {
+        int minX = SectionPos.blockToSectionCoord(center.getX() - radius);
+        int minY = SectionPos.blockToSectionCoord(center.getY() - radius);
+        int minZ = SectionPos.blockToSectionCoord(center.getZ() - radius);
+        int maxX = SectionPos.blockToSectionCoord(center.getX() + radius);
+        int maxY = SectionPos.blockToSectionCoord(center.getY() + radius);
+        int maxZ = SectionPos.blockToSectionCoord(center.getZ() + radius);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    action.accept(SectionPos.asLong(x, y, z));
+                }
+            }
+        }
+    }
+
+    // ==================== EVENTS ====================
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
+        Map<Long, Set<StorageAnchorBlockEntity>> sections = ANCHORS_BY_SECTION.get(serverLevel.dimension());
+        if (sections == null) {
+            return;
+        }
+
+        BlockPos pos = event.getPos();
+        Set<StorageAnchorBlockEntity> anchors = sections.get(SectionPos.asLong(pos));
+        if (anchors != null) {
+            for (StorageAnchorBlockEntity anchor : anchors) {
+                anchor.onBlockChanged(pos);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            ANCHORS_BY_SECTION.remove(serverLevel.dimension());
+        }
+    }
+}
@@ -3,22 +3,30 @@ package net.j40climb.florafauna.common.block.iteminput.storageanchor;
 import net.j40climb.florafauna.common.block.iteminput.shared.ContainerScanner;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.transfer.ResourceHandler;
+import net.neoforged.neoforge.transfer.item.ItemResource;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -26,18 +34,23 @@ import java.util.Set;
  * Manages storage destinations and paired item input blocks.
  *
  * Container detection:
- * - Scans for blocks with IItemHandler capability in radius
+ * - Scans for blocks with IItemHandler capability in radius once on load
+ * - Re-checks single positions when ContainerDiscoveryEvents reports a block change
  * - Explicitly linked containers take priority
- * - Periodically refreshes auto-detected containers
+ * - Slow full rescan as a consistency check for changes that skip neighbor updates
  */
 public class StorageAnchorBlockEntity extends BlockEntity {
     private static final int SCAN_RADIUS = 8;
-    private static final int SCAN_INTERVAL_TICKS = 100; // 5 seconds
+    private static final int FULL_RESCAN_INTERVAL_TICKS = 1200; // 60 seconds
     private static final String TAG_LINKED = "LinkedContainers";
     private static final String TAG_ITEM_INPUTS = "PairedItemInputs";
 
-    // Auto-detected containers (refreshed periodically)
+    // Auto-detected containers (full scan on load, then kept current by block change events)
     private List<StorageDestination> nearbyContainers = new ArrayList<>();
+    private final Set<BlockPos> nearbyPositions = new HashSet<>();
+
+    // Positions reported changed since the last tick, re-checked in tick
+    private final Set<BlockPos> pendingChecks = new HashSet<>();
 
     // Explicitly linked distant containers (persistent)
     private List<StorageDestination> linkedContainers = new ArrayList<>();
@@ -45,9 +58,17 @@ public class StorageAnchorBlockEntity extends BlockEntity {
     // Paired ItemInput block positions
     private Set<BlockPos> pairedItemInputs = new HashSet<>();
 
-    // Tick counter for periodic scanning
+    // Tick counter for the background consistency scan
     private int scanCooldown = 0;
 
+    // Priority-sorted destinations with cached handlers, rebuilt when dirty
+    private List<CachedDestination> destinationSnapshot = List.of();
+    private Map<BlockPos, BlockCapabilityCache<ResourceHandler<ItemResource>, Direction>> capabilityCaches = new HashMap<>();
+    private boolean destinationsDirty = true;
+
+    // Whether this anchor is registered with ContainerDiscoveryEvents
+    private boolean discoveryRegistered = false;
+
     public StorageAnchorBlockEntity(BlockPos pos, BlockState blockState) {
         super(FloraFaunaRegistry.STORAGE_ANCHOR_BE.get(), pos, blockState);
     }
@@ -60,11 +81,22 @@ public class StorageAnchorBlockEntity extends BlockEntity {
             return;
         }
 
-        // Periodically scan for nearby containers
+        if (!discoveryRegistered && level instanceof ServerLevel serverLevel) {
+            ContainerDiscoveryEvents.register(serverLevel, this, SCAN_RADIUS);
+            discoveryRegistered = true;
+        }
+
+        // Full scan on load, then a slow background consistency check
         scanCooldown--;
         if (scanCooldown <= 0) {
-            scanCooldown = SCAN_INTERVAL_TICKS;
+            scanCooldown = FULL_RESCAN_INTERVAL_TICKS;
             scanForContainers(level, blockPos);
+            pendingChecks.clear();
+        } else if (!pendingChecks.isEmpty()) {
+            for (BlockPos pos : pendingChecks) {
+                recheckPosition(level, pos);
+            }
+            pendingChecks.clear();
         }
     }
 
@@ -73,6 +105,7 @@ public class StorageAnchorBlockEntity extends BlockEntity {
      */
     private void scanForContainers(Level level, BlockPos center) {
         nearbyContainers.clear();
+        nearbyPositions.clear();
 
         // Build set of already-linked positions to exclude
         Set<BlockPos> linkedPositions = new HashSet<>();
@@ -87,36 +120,103 @@ public class StorageAnchorBlockEntity extends BlockEntity {
         // Convert to StorageDestination
         for (BlockPos pos : foundContainers) {
             nearbyContainers.add(StorageDestination.autoDetected(pos));
+            nearbyPositions.add(pos);
         }
+        markDestinationsDirty();
     }
 
     /**
-     * Gets all available storage destinations, sorted by priority.
-     * Linked containers come first, then nearby auto-detected ones.
+     * Called by ContainerDiscoveryEvents when a block in a covered section changes.
+     * The position is re-checked on the next tick, once the change has settled.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        if (isInScanRadius(pos)) {
+            pendingChecks.add(pos.immutable());
+        }
+    }
+
+    /**
+     * Adds or removes a single auto-detected container after a block change.
+     */
+    private void recheckPosition(Level level, BlockPos pos) {
+        boolean isLinked = linkedContainers.stream().anyMatch(dest -> dest.pos().equals(pos));
+        boolean hasCapability = !isLinked && ContainerScanner.hasItemCapability(level, pos);
+
+        if (hasCapability && nearbyPositions.add(pos)) {
+            nearbyContainers.add(StorageDestination.autoDetected(pos));
+            markDestinationsDirty();
+        } else if (!hasCapability && nearbyPositions.remove(pos)) {
+            nearbyContainers.removeIf(dest -> dest.pos().equals(pos));
+            markDestinationsDirty();
+        }
+    }
+
+    private boolean isInScanRadius(BlockPos pos) {
+        return !pos.equals(worldPosition)
+                && Math.abs(pos.getX() - worldPosition.getX()) <= SCAN_RADIUS
+                && Math.abs(pos.getY() - worldPosition.getY()) <= SCAN_RADIUS
+                && Math.abs(pos.getZ() - worldPosition.getZ()) <= SCAN_RADIUS;
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (discoveryRegistered && level instanceof ServerLevel serverLevel) {
+            ContainerDiscoveryEvents.unregister(serverLevel, this, SCAN_RADIUS);
+            discoveryRegistered = false;
+        }
+    }
+
+    /**
+     * Gets the priority-sorted destinations with cached item handlers.
+     * The snapshot is rebuilt only after the destination set changes or one of
+     * the cached capabilities is invalidated, so paired inputs can call this every tick.
      *
-     * @return Sorted list of valid storage destinations
+     * @return Immutable sorted snapshot of valid destinations
      */
-    public List<StorageDestination> getAvailableDestinations() {
-        List<StorageDestination> all = new ArrayList<>();
+    public List<CachedDestination> getDestinationSnapshot() {
+        if (destinationsDirty && level instanceof ServerLevel serverLevel) {
+            rebuildDestinationSnapshot(serverLevel);
+        }
+        return destinationSnapshot;
+    }
 
-        // Add linked containers (validate they still exist)
-        for (StorageDestination dest : linkedContainers) {
-            if (level != null && dest.isValid(level)) {
-                all.add(dest);
+    private void rebuildDestinationSnapshot(ServerLevel serverLevel) {
+        destinationsDirty = false;
+
+        List<CachedDestination> all = new ArrayList<>();
+        Map<BlockPos, BlockCapabilityCache<ResourceHandler<ItemResource>, Direction>> caches = new HashMap<>();
+
+        // Linked containers first, then nearby ones - skip any without a handler
+        List<StorageDestination> candidates = new ArrayList<>(linkedContainers);
+        candidates.addAll(nearbyContainers);
+        for (StorageDestination dest : candidates) {
+            BlockCapabilityCache<ResourceHandler<ItemResource>, Direction> cache =
+                    capabilityCaches.get(dest.pos());
+            if (cache == null) {
+                cache = BlockCapabilityCache.create(Capabilities.Item.BLOCK, serverLevel, dest.pos(), null,
+                        () -> !isRemoved(), this::markDestinationsDirty);
             }
-        }
+            caches.put(dest.pos(), cache);
 
-        // Add nearby containers
-        for (StorageDestination dest : nearbyContainers) {
-            if (level != null && dest.isValid(level)) {
-                all.add(dest);
+            // Querying also re-arms the invalidation listener
+            if (cache.getCapability() != null) {
+                all.add(new CachedDestination(dest, cache));
             }
         }
 
         // Sort by priority (higher first)
-        all.sort(Comparator.comparingInt(StorageDestination::priority).reversed());
+        all.sort(Comparator.comparingInt((CachedDestination cached) -> cached.destination().priority()).reversed());
+
+        capabilityCaches = caches;
+        destinationSnapshot = List.copyOf(all);
+    }
 
-        return all;
+    /**
+     * Forces the destination snapshot to be rebuilt on next access.
+     */
+    private void markDestinationsDirty() {
+        destinationsDirty = true;
     }
 
     /**
@@ -145,8 +245,11 @@ public class StorageAnchorBlockEntity extends BlockEntity {
         linkedContainers.add(StorageDestination.linked(pos));
 
         // Remove from auto-detected if present
-        nearbyContainers.removeIf(dest -> dest.pos().equals(pos));
+        if (nearbyPositions.remove(pos)) {
+            nearbyContainers.removeIf(dest -> dest.pos().equals(pos));
+        }
 
+        markDestinationsDirty();
         setChanged();
         return true;
     }
@@ -160,6 +263,9 @@ public class StorageAnchorBlockEntity extends BlockEntity {
     public boolean unlinkContainer(BlockPos pos) {
         boolean removed = linkedContainers.removeIf(dest -> dest.pos().equals(pos));
         if (removed) {
+            // May be auto-detected again if it is within the scan radius
+            onBlockChanged(pos);
+            markDestinationsDirty();
             setChanged();
         }
         return removed;
@@ -225,6 +331,7 @@ public class StorageAnchorBlockEntity extends BlockEntity {
         linkedContainers.clear();
         input.read(TAG_LINKED, StorageDestination.CODEC.listOf())
                 .ifPresent(linkedContainers::addAll);
+        markDestinationsDirty();
 
         // Load paired item inputs
         pairedItemInputs.clear();
@@ -25,8 +25,11 @@ import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Abstract base class for Mining Anchor block entities.
@@ -40,6 +43,8 @@ import java.util.List;
  */
 public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBlockEntity {
     private static final String KEY_POD_POSITIONS = "pod_positions";
+    private static final int RECONCILE_INTERVAL_TICKS = 200;
+    private static final int SPAWN_CACHE_TTL_TICKS = 200;
 
     // Tracked pod positions
     protected final List<BlockPos> podPositions = new ArrayList<>();
@@ -47,6 +52,24 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
     // Current fill state (for change detection)
     protected AnchorFillState currentFillState = AnchorFillState.NORMAL;
 
+    // Aggregated item count across pods, kept current by pod deltas (-1 = unknown)
+    private int cachedStoredCount = -1;
+    private boolean fillStateDirty = true;
+    private int reconcileCooldown = 0;
+
+    // Pod spawn search state over PodSpawnRing: indices before the cursor and
+    // set bits are known to be blocked until the cache is invalidated
+    private final BitSet blockedSpawnCandidates = new BitSet();
+    private int spawnCursor = 0;
+    private int spawnRingRadius = -1;
+    private long spawnCacheExpiresAt = 0;
+
+    // Absorbed stacks waiting to be distributed to pods this tick, and pods
+    // whose contents changed since their last client sync
+    private final List<ItemStack> stagedStacks = new ArrayList<>();
+    private final Set<BlockPos> podsPendingSync = new LinkedHashSet<>();
+    private int podSyncCooldown = 0;
+
     /** Transient flag - true during teardown to prevent pods from spilling independently */
     private boolean isTearingDown = false;
 
@@ -121,8 +144,20 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
     /**
      * Returns the total number of stored items (sum of all pods).
      * The anchor itself stores nothing - all items are in pods.
+     * Served from the aggregated count that pods push deltas into.
      */
     public int getStoredCount() {
+        if (cachedStoredCount < 0) {
+            cachedStoredCount = countPodContents();
+        }
+        return cachedStoredCount;
+    }
+
+    /**
+     * Sums the stored count of every pod with a block entity lookup per pod.
+     * Used to seed and periodically reconcile the aggregated count.
+     */
+    protected int countPodContents() {
         int count = 0;
         if (level != null) {
             for (BlockPos podPos : podPositions) {
@@ -135,6 +170,17 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
         return count;
     }
 
+    /**
+     * Called by pods when their buffer's item count changes.
+     * Updates the aggregated count and schedules a fill state check.
+     */
+    public void onPodStoredCountChanged(int delta) {
+        if (cachedStoredCount >= 0) {
+            cachedStoredCount = Math.max(0, cachedStoredCount + delta);
+        }
+        fillStateDirty = true;
+    }
+
     /**
      * Returns the current fill state based on stored vs max capacity.
      */
@@ -146,15 +192,42 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
 
     @Override
     protected void tickProcessing(Level level, BlockPos pos, BlockState state) {
-        // Fill state change detection
-        checkFillStateChange(level, pos, state);
+        // Distribute everything absorbed this tick in one pass
+        if (!stagedStacks.isEmpty()) {
+            distributeToPods(level, stagedStacks);
+            stagedStacks.clear();
+        }
+
+        // Periodically reconcile the aggregated count against the pods
+        reconcileCooldown--;
+        if (reconcileCooldown <= 0) {
+            reconcileCooldown = RECONCILE_INTERVAL_TICKS;
+            int actual = countPodContents();
+            if (actual != cachedStoredCount) {
+                cachedStoredCount = actual;
+                fillStateDirty = true;
+            }
+        }
+
+        // Fill state change detection (only when a pod reported a change)
+        if (fillStateDirty) {
+            checkFillStateChange(level, pos, state);
+        }
+
+        // Sync each changed pod at most once per sync interval
+        podSyncCooldown--;
+        if (podSyncCooldown <= 0 && !podsPendingSync.isEmpty()) {
+            podSyncCooldown = Config.miningAnchorPodSyncInterval;
+            flushPodSyncs(level);
+        }
     }
 
     // ==================== ITEM COLLECTION ====================
 
     /**
      * Overrides parent to store items directly in pods instead of anchor buffer.
-     * Spawns pods as needed to store incoming items.
+     * The stack is staged and distributed to pods with the rest of this tick's
+     * absorptions in tickProcessing, spawning pods as needed.
      */
     @Override
     protected void absorbItem(ItemEntity itemEntity) {
@@ -162,54 +235,91 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
             return;
         }
 
-        ItemStack stack = itemEntity.getItem().copy();
-        int remaining = stack.getCount();
+        stagedStacks.add(itemEntity.getItem().copy());
+
+        // Remove the item entity (even if the pods can't store everything)
+        itemEntity.discard();
+    }
 
-        // Try to add to existing pods first (closest to anchor first)
+    /**
+     * Stores stacks into pods in a single pass, closest pods first, spawning new pods as needed.
+     * Touched pods are marked for sync rather than synced immediately.
+     *
+     * @param stacks The stacks to store (not modified)
+     * @return The number of items that were added
+     */
+    protected int distributeToPods(Level level, List<ItemStack> stacks) {
+        // Resolve pods once for the whole batch (closest to anchor first)
+        List<AbstractStoragePodBlockEntity> pods = new ArrayList<>();
         for (BlockPos podPos : getPodPositionsByDistance()) {
-            if (remaining <= 0) break;
+            if (level.getBlockEntity(podPos) instanceof AbstractStoragePodBlockEntity pod) {
+                pods.add(pod);
+            }
+        }
 
-            BlockEntity be = level.getBlockEntity(podPos);
-            if (be instanceof AbstractStoragePodBlockEntity pod && !pod.isFull()) {
+        int firstOpenPod = 0;
+        int totalAdded = 0;
+
+        for (ItemStack stack : stacks) {
+            int remaining = stack.getCount();
+            int podIndex = firstOpenPod;
+
+            while (remaining > 0) {
+                if (podIndex >= pods.size()) {
+                    // Spawn new pods if needed and we have capacity
+                    if (podPositions.size() >= getMaxPods() || !trySpawnPod(level)) {
+                        break; // No space for more pods
+                    }
+                    BlockPos newPodPos = podPositions.get(podPositions.size() - 1);
+                    if (!(level.getBlockEntity(newPodPos) instanceof AbstractStoragePodBlockEntity newPod)) {
+                        break;
+                    }
+                    pods.add(newPod);
+                }
+
+                AbstractStoragePodBlockEntity pod = pods.get(podIndex);
                 int canAdd = Math.min(remaining, pod.getCapacity() - pod.getStoredCount());
                 if (canAdd > 0) {
-                    ItemStack toAdd = stack.copyWithCount(canAdd);
-                    int added = pod.getBuffer().add(toAdd);
+                    int added = pod.getBuffer().add(stack.copyWithCount(canAdd));
                     if (added > 0) {
                         remaining -= added;
-                        pod.markChangedAndSync();
+                        totalAdded += added;
+                        markPodForSync(pod);
                     }
                 }
-            }
-        }
 
-        // Spawn new pods if needed and we have capacity
-        while (remaining > 0 && podPositions.size() < getMaxPods()) {
-            if (!trySpawnPod(level)) {
-                break; // No space for more pods
+                if (remaining > 0) {
+                    podIndex++;
+                }
             }
 
-            // Add to the newly spawned pod
-            BlockPos newPodPos = podPositions.get(podPositions.size() - 1);
-            BlockEntity be = level.getBlockEntity(newPodPos);
-            if (be instanceof AbstractStoragePodBlockEntity pod) {
-                int canAdd = Math.min(remaining, pod.getCapacity());
-                if (canAdd > 0) {
-                    ItemStack toAdd = stack.copyWithCount(canAdd);
-                    int added = pod.getBuffer().add(toAdd);
-                    if (added > 0) {
-                        remaining -= added;
-                        pod.markChangedAndSync();
-                    }
-                }
+            // Full pods stay full for the rest of the batch
+            while (firstOpenPod < pods.size() && pods.get(firstOpenPod).isFull()) {
+                firstOpenPod++;
             }
         }
 
-        // Remove the item entity (even if we couldn't store everything)
-        itemEntity.discard();
+        return totalAdded;
+    }
 
-        // Update fill state after adding items
-        checkFillStateChange(level, worldPosition, getBlockState());
+    /**
+     * Marks a pod as changed and queues it for the next client sync.
+     */
+    protected void markPodForSync(AbstractStoragePodBlockEntity pod) {
+        pod.setChanged();
+        podsPendingSync.add(pod.getBlockPos());
+    }
+
+    /**
+     * Sends one block update per pod changed since the last flush.
+     */
+    private void flushPodSyncs(Level level) {
+        for (BlockPos podPos : podsPendingSync) {
+            if (level.getBlockEntity(podPos) instanceof AbstractStoragePodBlockEntity pod) {
+                pod.markChangedAndSync();
+            }
+        }
+        podsPendingSync.clear();
     }
 
     /**
@@ -229,64 +339,40 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
     /**
      * Finds the next available position for a pod using expanding ring algorithm.
      * Priority: same Y-level first, then Y+1 if blocked.
+     * Walks the precomputed PodSpawnRing from a cursor, skipping candidates already known to be blocked.
      * @return next valid position, or null if no space within spawn radius
      */
     protected BlockPos findNextPodPosition(Level level) {
-        int maxRadius = getConfigSpawnRadius();
-        List<BlockPos> candidates = new ArrayList<>();
-
-        // Generate all candidate positions within radius, sorted by distance
-        for (int dy = 0; dy <= 1; dy++) {
-            for (int r = 1; r <= maxRadius; r++) {
-                // Cardinal directions at this ring
-                addCandidate(candidates, worldPosition.offset(r, dy, 0));
-                addCandidate(candidates, worldPosition.offset(-r, dy, 0));
-                addCandidate(candidates, worldPosition.offset(0, dy, r));
-                addCandidate(candidates, worldPosition.offset(0, dy, -r));
-
-                // Fill in the ring (diagonal and intermediate positions)
-                for (int i = 1; i < r; i++) {
-                    // All four quadrants
-                    addCandidate(candidates, worldPosition.offset(r, dy, i));
-                    addCandidate(candidates, worldPosition.offset(r, dy, -i));
-                    addCandidate(candidates, worldPosition.offset(-r, dy, i));
-                    addCandidate(candidates, worldPosition.offset(-r, dy, -i));
-                    addCandidate(candidates, worldPosition.offset(i, dy, r));
-                    addCandidate(candidates, worldPosition.offset(-i, dy, r));
-                    addCandidate(candidates, worldPosition.offset(i, dy, -r));
-                    addCandidate(candidates, worldPosition.offset(-i, dy, -r));
-                }
-
-                // Diagonal corners
-                addCandidate(candidates, worldPosition.offset(r, dy, r));
-                addCandidate(candidates, worldPosition.offset(r, dy, -r));
-                addCandidate(candidates, worldPosition.offset(-r, dy, r));
-                addCandidate(candidates, worldPosition.offset(-r, dy, -r));
-            }
+        int radius = getConfigSpawnRadius();
+        long currentTick = level.getGameTime();
+        if (radius != spawnRingRadius || currentTick >= spawnCacheExpiresAt) {
+            // Blocks can be cleared without notifying us, so blocked results expire
+            invalidatePodSpawnCache();
+            spawnRingRadius = radius;
+            spawnCacheExpiresAt = currentTick + SPAWN_CACHE_TTL_TICKS;
         }
 
-        // Sort by: Y-level first (prefer same level), then distance from anchor
-        candidates.sort(Comparator
-                .comparingInt((BlockPos p) -> p.getY() - worldPosition.getY())
-                .thenComparingDouble(p -> worldPosition.distSqr(p)));
-
-        // Find first valid position
-        for (BlockPos candidate : candidates) {
+        List<BlockPos> offsets = PodSpawnRing.offsetsFor(radius);
+        for (int i = blockedSpawnCandidates.nextClearBit(spawnCursor); i < offsets.size();
+             i = blockedSpawnCandidates.nextClearBit(i + 1)) {
+            BlockPos candidate = worldPosition.offset(offsets.get(i));
             if (!podPositions.contains(candidate) && canSpawnPodAt(level, candidate)) {
                 return candidate;
             }
+            blockedSpawnCandidates.set(i);
         }
+        spawnCursor = blockedSpawnCandidates.nextClearBit(spawnCursor);
 
         return null;
     }
 
     /**
-     * Adds a position to the candidate list if not already present.
+     * Forgets which spawn candidates are blocked, so the next search starts from the closest ring.
+     * Called on neighbor block updates and when a pod is removed.
      */
-    private void addCandidate(List<BlockPos> candidates, BlockPos pos) {
-        if (!candidates.contains(pos)) {
-            candidates.add(pos);
-        }
+    public void invalidatePodSpawnCache() {
+        blockedSpawnCandidates.clear();
+        spawnCursor = 0;
     }
 
     /**
@@ -320,6 +406,7 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
      * Checks for fill state changes and triggers events.
      */
     protected void checkFillStateChange(Level level, BlockPos pos, BlockState state) {
+        fillStateDirty = false;
         AnchorFillState newFillState = getFillState();
 
         if (newFillState != currentFillState) {
@@ -373,7 +460,7 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
 
     /**
      * Adds items directly to pods. Spawns new pods as needed.
-     * Used by commands and other external sources.
+     * Used by commands and other external sources. Clients see the change on the next pod sync.
      *
      * @param stack The items to add
      * @return The number of items that were added
@@ -383,49 +470,7 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
             return 0;
         }
 
-        int remaining = stack.getCount();
-        int totalAdded = 0;
-
-        // Try to add to existing pods first (closest to anchor first)
-        for (BlockPos podPos : getPodPositionsByDistance()) {
-            if (remaining <= 0) break;
-
-            BlockEntity be = level.getBlockEntity(podPos);
-            if (be instanceof AbstractStoragePodBlockEntity pod && !pod.isFull()) {
-                int canAdd = Math.min(remaining, pod.getCapacity() - pod.getStoredCount());
-                if (canAdd > 0) {
-                    ItemStack toAdd = stack.copyWithCount(canAdd);
-                    int added = pod.getBuffer().add(toAdd);
-                    if (added > 0) {
-                        remaining -= added;
-                        totalAdded += added;
-                        pod.markChangedAndSync();
-                    }
-                }
-            }
-        }
-
-        // Spawn new pods if needed
-        while (remaining > 0 && podPositions.size() < getMaxPods()) {
-            if (!trySpawnPod(level)) {
-                break;
-            }
-
-            BlockPos newPodPos = podPositions.get(podPositions.size() - 1);
-            BlockEntity be = level.getBlockEntity(newPodPos);
-            if (be instanceof AbstractStoragePodBlockEntity pod) {
-                int canAdd = Math.min(remaining, pod.getCapacity());
-                if (canAdd > 0) {
-                    ItemStack toAdd = stack.copyWithCount(canAdd);
-                    int added = pod.getBuffer().add(toAdd);
-                    if (added > 0) {
-                        remaining -= added;
-                        totalAdded += added;
-                        pod.markChangedAndSync();
-                    }
-                }
-            }
-        }
+        int totalAdded = distributeToPods(level, List.of(stack));
 
         // Update fill state after adding items
         if (totalAdded > 0) {
@@ -462,6 +507,8 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
      */
     public void onPodRemoved(BlockPos podPos) {
         podPositions.remove(podPos);
+        cachedStoredCount = -1; // Recount without the removed pod
+        invalidatePodSpawnCache();
         setChanged();
 
         // Update fill state immediately when a pod is removed
@@ -507,6 +554,7 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
 
         // Set flag FIRST - pods will check this to prevent double drops
         isTearingDown = true;
+        podsPendingSync.clear();
 
         // 1. Clear waypoints for all players with this anchor
         clearWaypointsForAllPlayers();
@@ -628,5 +676,6 @@ public abstract class AbstractMiningAnchorBlockEntity extends AbstractVacuumBloc
         super.loadAdditional(input);
         podPositions.clear();
         podPositions.addAll(input.read(KEY_POD_POSITIONS, BlockPos.CODEC.listOf()).orElse(List.of()));
+        cachedStoredCount = -1;
     }
 }
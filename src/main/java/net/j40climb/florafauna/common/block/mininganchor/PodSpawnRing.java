@@ -0,0 +1,69 @@
+package net.j40climb.florafauna.common.block.mininganchor;
+
+import net.minecraft.core.BlockPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed pod spawn candidate offsets, relative to the anchor.
+ *
+ * Offsets form expanding square rings on the anchor's Y-level, then one block
+ * above. They are sorted by Y-level first (prefer same level), then by distance
+ * from the anchor. Tables are built once per spawn radius and shared by all anchors.
+ */
+public final class PodSpawnRing {
+    private static final ConcurrentHashMap<Integer, List<BlockPos>> TABLES = new ConcurrentHashMap<>();
+
+    private PodSpawnRing() {} // Utility class
+
+    /**
+     * Returns the sorted, immutable candidate offsets for the given spawn radius.
+     */
+    public static List<BlockPos> offsetsFor(int radius) {
+        return TABLES.computeIfAbsent(radius, PodSpawnRing::buildOffsets);
+    }
+
+    private static List<BlockPos> buildOffsets(int maxRadius) {
+        Set<BlockPos> candidates = new LinkedHashSet<>();
+
+        for (int dy = 0; dy <= 1; dy++) {
+            for (int r = 1; r <= maxRadius; r++) {
+                // Cardinal directions at this ring
+                candidates.add(new BlockPos(r, dy, 0));
+                candidates.add(new BlockPos(-r, dy, 0));
+                candidates.add(new BlockPos(0, dy, r));
+                candidates.add(new BlockPos(0, dy, -r));
+
+                // Fill in the ring (diagonal and intermediate positions)
+                for (int i = 1; i < r; i++) {
+                    candidates.add(new BlockPos(r, dy, i));
+                    candidates.add(new BlockPos(r, dy, -i));
+                    candidates.add(new BlockPos(-r, dy, i));
+                    candidates.add(new BlockPos(-r, dy, -i));
+                    candidates.add(new BlockPos(i, dy, r));
+                    candidates.add(new BlockPos(-i, dy, r));
+                    candidates.add(new BlockPos(i, dy, -r));
+                    candidates.add(new BlockPos(-i, dy, -r));
+                }
+
+                // Diagonal corners
+                candidates.add(new BlockPos(r, dy, r));
+                candidates.add(new BlockPos(r, dy, -r));
+                candidates.add(new BlockPos(-r, dy, r));
+                candidates.add(new BlockPos(-r, dy, -r));
+            }
+        }
+
+        // Stable sort keeps ring order among equally distant offsets
+        List<BlockPos> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator
+                .comparingInt(BlockPos::getY)
+                .thenComparingDouble(offset -> offset.distSqr(BlockPos.ZERO)));
+        return List.copyOf(sorted);
+    }
+}
@@ -1,17 +1,19 @@
 package net.j40climb.florafauna.common.block.mininganchor.pod;
 
 import net.j40climb.florafauna.common.block.mininganchor.AbstractMiningAnchorBlockEntity;
+import net.j40climb.florafauna.common.block.vacuum.IItemBufferHolder;
 import net.j40climb.florafauna.common.block.vacuum.ItemBuffer;
+import net.j40climb.florafauna.common.block.vacuum.ItemBufferSync;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
@@ -26,7 +28,7 @@ import java.util.Optional;
  * Pods provide additional storage capacity for the anchor system.
  * Each pod tier defines its own slot count (capacity).
  */
-public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
+public abstract class AbstractStoragePodBlockEntity extends BlockEntity implements IItemBufferHolder {
 
     protected static final String TAG_PARENT_ANCHOR = "ParentAnchor";
 
@@ -35,6 +37,10 @@ public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
     @Nullable
     protected BlockPos parentAnchorPos;
 
+    // Cached parent lookup for pushing stored-count deltas
+    @Nullable
+    private AbstractMiningAnchorBlockEntity cachedParentAnchor;
+
     /**
      * Creates a pod with the specified slot count.
      * @param type The block entity type
@@ -46,6 +52,7 @@ public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
         super(type, pos, state);
         this.slotCount = slotCount;
         this.podBuffer = new ItemBuffer(slotCount);
+        this.podBuffer.setCountListener(this::onStoredCountChanged);
     }
 
     /**
@@ -105,6 +112,32 @@ public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
         setChanged();
     }
 
+    /**
+     * Pushes a stored-count change to the parent anchor's aggregated count.
+     */
+    private void onStoredCountChanged(int delta) {
+        AbstractMiningAnchorBlockEntity anchor = getParentAnchor();
+        if (anchor != null) {
+            anchor.onPodStoredCountChanged(delta);
+        }
+    }
+
+    /**
+     * Resolves the parent anchor, caching it until it is removed or re-parented.
+     */
+    @Nullable
+    private AbstractMiningAnchorBlockEntity getParentAnchor() {
+        if (parentAnchorPos == null || level == null || level.isClientSide()) {
+            return null;
+        }
+        if (cachedParentAnchor == null || cachedParentAnchor.isRemoved()
+                || !cachedParentAnchor.getBlockPos().equals(parentAnchorPos)) {
+            cachedParentAnchor = level.getBlockEntity(parentAnchorPos) instanceof AbstractMiningAnchorBlockEntity anchor
+                    ? anchor : null;
+        }
+        return cachedParentAnchor;
+    }
+
     /**
      * Gets the parent anchor position.
      */
@@ -116,6 +149,7 @@ public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
     /**
      * Gets the pod's buffer for direct access.
      */
+    @Override
     public ItemBuffer getBuffer() {
         return podBuffer;
     }
@@ -148,13 +182,14 @@ public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
     }
 
     /**
-     * Marks the pod as changed and notifies clients.
+     * Marks the pod as changed and sends the changed slots to clients.
      * Call this after modifying the buffer contents.
      */
     public void markChangedAndSync() {
         setChanged();
-        if (level != null && !level.isClientSide()) {
-            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), Block.UPDATE_CLIENTS);
+        if (level instanceof ServerLevel serverLevel) {
+            // Only the changed slots are sent, not the whole buffer
+            ItemBufferSync.broadcastChanges(serverLevel, worldPosition, podBuffer);
         }
     }
 
@@ -171,6 +206,7 @@ public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
     protected void loadAdditional(ValueInput input) {
         super.loadAdditional(input);
         podBuffer.deserialize(input);
+        ItemBufferSync.readVersion(input, podBuffer);
         Optional<BlockPos> anchorPos = input.read(TAG_PARENT_ANCHOR, BlockPos.CODEC);
         parentAnchorPos = anchorPos.orElse(null);
     }
@@ -179,7 +215,7 @@ public abstract class AbstractStoragePodBlockEntity extends BlockEntity {
 
     @Override
     public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
-        return saveWithoutMetadata(registries);
+        return ItemBufferSync.writeVersion(saveWithoutMetadata(registries), podBuffer);
     }
 
     @Nullable
@@ -74,7 +74,7 @@ public class PodItemHandler implements ResourceHandler<ItemResource> {
             if (currentAmount == 0) {
                 buffer().setStack(index, resource.toStack(toInsert));
             } else {
-                current.grow(toInsert);
+                buffer().growStack(index, toInsert);
             }
             pod.markChangedAndSync();
             return toInsert;
@@ -96,11 +96,7 @@ public class PodItemHandler implements ResourceHandler<ItemResource> {
         int toExtract = Math.min(amount, currentAmount);
 
         if (toExtract > 0) {
-            if (toExtract == currentAmount) {
-                buffer().setStack(index, ItemStack.EMPTY);
-            } else {
-                current.shrink(toExtract);
-            }
+            buffer().shrinkStack(index, toExtract);
             pod.markChangedAndSync();
             return toExtract;
         }
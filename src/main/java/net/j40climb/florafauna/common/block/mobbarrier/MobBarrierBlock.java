@@ -2,6 +2,7 @@ package net.j40climb.florafauna.common.block.mobbarrier;
 
 import com.mojang.serialization.MapCodec;
 import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierConfig;
+import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierMatcher;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
@@ -80,9 +81,7 @@ public class MobBarrierBlock extends BaseEntityBlock {
     protected VoxelShape getCollisionShape(BlockState state, BlockGetter level, BlockPos pos, CollisionContext context) {
         if (context instanceof EntityCollisionContext entityContext) {
             Entity entity = entityContext.getEntity();
-            MobBarrierConfig config = getConfigAtPos(level, pos);
-
-            if (config.shouldBlockEntity(entity)) {
+            if (entity != null && MobBarrierIndex.getMatcher(level, pos).matches(entity)) {
                 return BARRIER_SHAPE;
             }
         }
@@ -128,8 +127,12 @@ public class MobBarrierBlock extends BaseEntityBlock {
     @Override
     public PathType getBlockPathType(BlockState state, BlockGetter level, BlockPos pos, @Nullable Mob mob) {
         if (mob != null) {
-            MobBarrierConfig config = getConfigAtPos(level, pos);
-            if (config.shouldBlockEntity(mob)) {
+            // Pathfinding passes a region, not a Level, so resolve through the mob's level
+            MobBarrierMatcher matcher = MobBarrierIndex.getIndexedMatcher(mob.level(), pos);
+            if (matcher == null) {
+                matcher = MobBarrierIndex.getMatcher(level, pos);
+            }
+            if (matcher.matches(mob)) {
                 return PathType.BLOCKED;
             }
         }
@@ -1,6 +1,7 @@
 package net.j40climb.florafauna.common.block.mobbarrier;
 
 import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierConfig;
+import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierMatcher;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
@@ -23,6 +24,7 @@ public class MobBarrierBlockEntity extends BlockEntity {
     private static final String CONFIG_KEY = "mob_barrier.config";
 
     private MobBarrierConfig config = MobBarrierConfig.DEFAULT;
+    private MobBarrierMatcher matcher = MobBarrierConfig.DEFAULT.matcher();
 
     public MobBarrierBlockEntity(BlockPos pos, BlockState state) {
         super(FloraFaunaRegistry.MOB_BARRIER_BE.get(), pos, state);
@@ -32,14 +34,48 @@ public class MobBarrierBlockEntity extends BlockEntity {
         return config;
     }
 
+    /**
+     * Returns the compiled matcher for the current config.
+     */
+    public MobBarrierMatcher getMatcher() {
+        return matcher;
+    }
+
     public void setConfig(MobBarrierConfig config) {
-        this.config = config;
+        applyConfig(config);
         setChanged();
         if (level != null && !level.isClientSide()) {
             level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 3);
         }
     }
 
+    /**
+     * Stores the interned config and keeps the barrier index in sync.
+     */
+    private void applyConfig(MobBarrierConfig newConfig) {
+        this.matcher = newConfig.matcher();
+        this.config = matcher.config();
+        if (level != null && !isRemoved()) {
+            MobBarrierIndex.put(level, worldPosition, config);
+        }
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null) {
+            MobBarrierIndex.put(level, worldPosition, config);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (level != null) {
+            MobBarrierIndex.remove(level, worldPosition);
+        }
+    }
+
     @Override
     protected void saveAdditional(ValueOutput output) {
         super.saveAdditional(output);
@@ -49,7 +85,7 @@ public class MobBarrierBlockEntity extends BlockEntity {
     @Override
     protected void loadAdditional(ValueInput input) {
         super.loadAdditional(input);
-        config = input.read(CONFIG_KEY, MobBarrierConfig.CODEC).orElse(MobBarrierConfig.DEFAULT);
+        applyConfig(input.read(CONFIG_KEY, MobBarrierConfig.CODEC).orElse(MobBarrierConfig.DEFAULT));
     }
 
     @Nullable
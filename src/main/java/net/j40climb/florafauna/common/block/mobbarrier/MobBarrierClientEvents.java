@@ -8,26 +8,47 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.rendertype.RenderTypes;
 import net.minecraft.core.BlockPos;
-import net.minecraft.util.Mth;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
-import net.minecraft.world.phys.shapes.Shapes;
-import net.minecraft.world.phys.shapes.VoxelShape;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Client-side rendering events for Mob Barrier blocks.
  * Renders orange outlines around nearby mob barriers when the player holds a mob barrier item.
+ *
+ * Barrier positions come from MobBarrierIndex, which client block entities keep
+ * current from chunk loads and block updates. Outline edges are built once per
+ * chunk section (with edges shared by neighbouring barriers merged) and only
+ * rebuilt when the index reports a change in that section.
  */
 @EventBusSubscriber(modid = FloraFauna.MOD_ID, value = Dist.CLIENT)
 public class MobBarrierClientEvents {
 
+    private static final int RENDER_RADIUS = 20;
+    private static final int MAX_CACHED_SECTIONS = 512;
+
+    /**
+     * Cached outline of one section: edge endpoints relative to the section origin,
+     * six floats per edge (x1, y1, z1, x2, y2, z2).
+     */
+    private record SectionOutline(int version, float[] edges) {}
+
+    private static final Map<Long, SectionOutline> OUTLINES = new HashMap<>();
+    @Nullable
+    private static Level cachedLevel;
+
     @SubscribeEvent
     public static void onRenderLevelStage(RenderLevelStageEvent.AfterTranslucentBlocks event) {
         Minecraft mc = Minecraft.getInstance();
@@ -43,72 +64,102 @@ public class MobBarrierClientEvents {
         }
 
         Level level = player.level();
+        if (level != cachedLevel || OUTLINES.size() > MAX_CACHED_SECTIONS) {
+            OUTLINES.clear();
+            cachedLevel = level;
+        }
+
         PoseStack poseStack = event.getPoseStack();
         MultiBufferSource.BufferSource bufferSource = mc.renderBuffers().bufferSource();
         Vec3 cameraPos = event.getLevelRenderState().cameraRenderState.pos;
+        VertexConsumer vertexConsumer = bufferSource.getBuffer(RenderTypes.lines());
 
+        // Visit every section overlapping the render radius around the player
         BlockPos playerPos = player.blockPosition();
-        VertexConsumer vertexConsumer = bufferSource.getBuffer(RenderTypes.lines());
+        SectionPos min = SectionPos.of(playerPos.offset(-RENDER_RADIUS, -RENDER_RADIUS, -RENDER_RADIUS));
+        SectionPos max = SectionPos.of(playerPos.offset(RENDER_RADIUS, RENDER_RADIUS, RENDER_RADIUS));
+        for (int sx = min.x(); sx <= max.x(); sx++) {
+            for (int sy = min.y(); sy <= max.y(); sy++) {
+                for (int sz = min.z(); sz <= max.z(); sz++) {
+                    long sectionKey = SectionPos.asLong(sx, sy, sz);
+                    int version = MobBarrierIndex.getSectionVersion(level, sectionKey);
+                    if (version == 0) {
+                        continue; // Never held a barrier
+                    }
+
+                    SectionOutline outline = OUTLINES.get(sectionKey);
+                    if (outline == null || outline.version() != version) {
+                        outline = buildOutline(level, SectionPos.of(sx, sy, sz), version);
+                        OUTLINES.put(sectionKey, outline);
+                    }
 
-        // Scan a 20-block radius cube around the player
-        int radius = 20;
-        for (BlockPos pos : BlockPos.betweenClosed(
-                playerPos.offset(-radius, -radius, -radius),
-                playerPos.offset(radius, radius, radius))) {
-            // Check distance (20 blocks = 400 distance squared)
-            if (playerPos.distSqr(pos) <= 400) {
-                BlockState state = level.getBlockState(pos);
-                if (state.getBlock() instanceof MobBarrierBlock) {
-                    // Render orange outline for this barrier block
-                    poseStack.pushPose();
-                    renderShape(
-                            poseStack,
-                            vertexConsumer,
-                            Shapes.block(),
-                            (double) pos.getX() - cameraPos.x(),
-                            (double) pos.getY() - cameraPos.y(),
-                            (double) pos.getZ() - cameraPos.z(),
-                            1.0F,  // Red
-                            0.65F, // Green (for orange)
-                            0.0F,  // Blue
-                            0.4F   // Alpha
-                    );
-                    poseStack.popPose();
+                    renderOutline(poseStack, vertexConsumer, outline,
+                            SectionPos.sectionToBlockCoord(sx) - cameraPos.x(),
+                            SectionPos.sectionToBlockCoord(sy) - cameraPos.y(),
+                            SectionPos.sectionToBlockCoord(sz) - cameraPos.z());
                 }
             }
         }
     }
 
-    private static void renderShape(
-            PoseStack poseStack,
-            VertexConsumer consumer,
-            VoxelShape shape,
-            double x,
-            double y,
-            double z,
-            float red,
-            float green,
-            float blue,
-            float alpha
-    ) {
+    /**
+     * Collects the unit-cube edges of every barrier in the section, merging duplicates.
+     */
+    private static SectionOutline buildOutline(Level level, SectionPos section, int version) {
+        // Edge key: start corner (5 bits per axis, 0..16) and axis (2 bits)
+        Set<Integer> edgeKeys = new LinkedHashSet<>();
+        MobBarrierIndex.forEachInSection(level, section, pos -> {
+            int x = SectionPos.sectionRelative(pos.getX());
+            int y = SectionPos.sectionRelative(pos.getY());
+            int z = SectionPos.sectionRelative(pos.getZ());
+            for (int a = 0; a <= 1; a++) {
+                for (int b = 0; b <= 1; b++) {
+                    edgeKeys.add(packEdge(x, y + a, z + b, 0));
+                    edgeKeys.add(packEdge(x + a, y, z + b, 1));
+                    edgeKeys.add(packEdge(x + a, y + b, z, 2));
+                }
+            }
+        });
+
+        float[] edges = new float[edgeKeys.size() * 6];
+        int i = 0;
+        for (int key : edgeKeys) {
+            int x = key & 31;
+            int y = (key >> 5) & 31;
+            int z = (key >> 10) & 31;
+            int axis = key >> 15;
+            edges[i++] = x;
+            edges[i++] = y;
+            edges[i++] = z;
+            edges[i++] = x + (axis == 0 ? 1 : 0);
+            edges[i++] = y + (axis == 1 ? 1 : 0);
+            edges[i++] = z + (axis == 2 ? 1 : 0);
+        }
+        return new SectionOutline(version, edges);
+    }
+
+    private static int packEdge(int x, int y, int z, int axis) {
+        return x | (y << 5) | (z << 10) | (axis << 15);
+    }
+
+    private static void renderOutline(PoseStack poseStack, VertexConsumer consumer, SectionOutline outline,
+                                      double originX, double originY, double originZ) {
         PoseStack.Pose pose = poseStack.last();
-        shape.forAllEdges((x1, y1, z1, x2, y2, z2) -> {
-            float dx = (float) (x2 - x1);
-            float dy = (float) (y2 - y1);
-            float dz = (float) (z2 - z1);
-            float length = Mth.sqrt(dx * dx + dy * dy + dz * dz);
-            dx /= length;
-            dy /= length;
-            dz /= length;
-
-            consumer.addVertex(pose.pose(), (float) (x1 + x), (float) (y1 + y), (float) (z1 + z))
-                    .setColor(red, green, blue, alpha)
+        float[] edges = outline.edges();
+        for (int i = 0; i < edges.length; i += 6) {
+            // Edges are axis-aligned unit segments, so the normal is the edge direction
+            float dx = edges[i + 3] - edges[i];
+            float dy = edges[i + 4] - edges[i + 1];
+            float dz = edges[i + 5] - edges[i + 2];
+
+            consumer.addVertex(pose.pose(), (float) (edges[i] + originX), (float) (edges[i + 1] + originY), (float) (edges[i + 2] + originZ))
+                    .setColor(1.0F, 0.65F, 0.0F, 0.4F) // Orange
                     .setNormal(pose, dx, dy, dz)
                     .setLineWidth(4.0f);
-            consumer.addVertex(pose.pose(), (float) (x2 + x), (float) (y2 + y), (float) (z2 + z))
-                    .setColor(red, green, blue, alpha)
+            consumer.addVertex(pose.pose(), (float) (edges[i + 3] + originX), (float) (edges[i + 4] + originY), (float) (edges[i + 5] + originZ))
+                    .setColor(1.0F, 0.65F, 0.0F, 0.4F)
                     .setNormal(pose, dx, dy, dz)
                     .setLineWidth(4.0f);
-        });
+        }
     }
 }
@@ -0,0 +1,246 @@
+package net.j40climb.florafauna.common.block.mobbarrier;
+
+import net.j40climb.florafauna.FloraFauna;
+import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierConfig;
+import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierMatcher;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-chunk index of loaded mob barriers, used by the collision and path-type hooks.
+ *
+ * Each chunk maps a packed local position to a small config ID. IDs point into
+ * a shared table of interned configs/matchers, so a wall of identically
+ * configured barriers stores one config and one int per block. IDs are
+ * reference-counted by indexed barriers and their slots reused once free. Lookups go
+ * straight from (level, pos) to the compiled matcher without a block entity lookup.
+ *
+ * Barrier block entities register themselves on load and config change, and
+ * unregister when removed or unloaded. Queries through a BlockGetter that is
+ * neither a Level nor a LevelChunk fall back to the block entity; the path-type
+ * hook avoids this by querying the mob's level directly.
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public class MobBarrierIndex {
+
+    // Fallback for positions with no barrier, held strongly so the weak intern table never drops it
+    private static final MobBarrierMatcher DEFAULT_MATCHER = MobBarrierConfig.DEFAULT.matcher();
+
+    // Interned config table shared by all levels (client and server). Writes hold the class lock;
+    // readers only see IDs published through BARRIERS, whose slots stay put while referenced.
+    private static volatile MobBarrierMatcher[] matchersById = new MobBarrierMatcher[16];
+    private static int[] refCounts = new int[16];
+    private static final Map<MobBarrierConfig, Integer> IDS_BY_CONFIG = new HashMap<>();
+    private static final ArrayDeque<Integer> FREE_IDS = new ArrayDeque<>();
+    private static int nextId = 0;
+
+    // Level -> chunk -> packed local position -> config ID
+    private static final Map<Level, Map<Long, Map<Integer, Integer>>> BARRIERS = new ConcurrentHashMap<>();
+
+    // Level -> chunk section -> change counter, for caches derived from the index
+    private static final Map<Level, Map<Long, Integer>> SECTION_VERSIONS = new ConcurrentHashMap<>();
+
+    private MobBarrierIndex() {} // Utility class
+
+    // ==================== REGISTRATION ====================
+
+    /**
+     * Records the barrier at pos with the given config, replacing any previous entry.
+     */
+    public static void put(Level level, BlockPos pos, MobBarrierConfig config) {
+        int configId = acquireId(config);
+        Integer previous = BARRIERS.computeIfAbsent(level, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(ChunkPos.asLong(pos), key -> new ConcurrentHashMap<>())
+                .put(packLocal(pos), configId);
+        if (previous != null) {
+            releaseId(previous);
+        }
+        bumpSectionVersion(level, pos);
+    }
+
+    /**
+     * Removes the barrier at pos from the index.
+     */
+    public static void remove(Level level, BlockPos pos) {
+        Map<Long, Map<Integer, Integer>> chunks = BARRIERS.get(level);
+        if (chunks == null) {
+            return;
+        }
+        long chunkKey = ChunkPos.asLong(pos);
+        Map<Integer, Integer> chunk = chunks.get(chunkKey);
+        Integer removed = chunk == null ? null : chunk.remove(packLocal(pos));
+        if (removed != null) {
+            releaseId(removed);
+            if (chunk.isEmpty()) {
+                chunks.remove(chunkKey);
+            }
+            bumpSectionVersion(level, pos);
+        }
+    }
+
+    private static void bumpSectionVersion(Level level, BlockPos pos) {
+        SECTION_VERSIONS.computeIfAbsent(level, key -> new ConcurrentHashMap<>())
+                .merge(SectionPos.asLong(pos), 1, Integer::sum);
+    }
+
+    /**
+     * Takes a reference to the ID for a config, assigning a free or new slot if it has none.
+     */
+    private static synchronized int acquireId(MobBarrierConfig config) {
+        Integer id = IDS_BY_CONFIG.get(config);
+        if (id == null) {
+            id = FREE_IDS.isEmpty() ? nextId++ : FREE_IDS.poll();
+            if (id >= refCounts.length) {
+                refCounts = Arrays.copyOf(refCounts, refCounts.length * 2);
+                matchersById = Arrays.copyOf(matchersById, refCounts.length);
+            }
+            matchersById[id] = MobBarrierMatcher.of(config);
+            IDS_BY_CONFIG.put(matchersById[id].config(), id);
+        }
+        refCounts[id]++;
+        return id;
+    }
+
+    /**
+     * Drops a reference to an ID, freeing its slot when no indexed barrier uses it.
+     */
+    private static synchronized void releaseId(int id) {
+        if (--refCounts[id] > 0) {
+            return;
+        }
+        IDS_BY_CONFIG.remove(matchersById[id].config());
+        matchersById[id] = null;
+        FREE_IDS.add(id);
+    }
+
+    private static MobBarrierMatcher getMatcherById(int id) {
+        return matchersById[id];
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Gets the compiled matcher for the barrier at pos.
+     * Uses the index when the getter is a Level or LevelChunk, otherwise the block entity.
+     */
+    public static MobBarrierMatcher getMatcher(BlockGetter getter, BlockPos pos) {
+        Level level = getLevel(getter);
+        if (level != null) {
+            Integer configId = getConfigId(level, pos);
+            if (configId != null) {
+                return getMatcherById(configId);
+            }
+        }
+
+        // Not indexed yet (block entity still loading) or unknown getter
+        if (getter.getBlockEntity(pos) instanceof MobBarrierBlockEntity blockEntity) {
+            return blockEntity.getMatcher();
+        }
+        return DEFAULT_MATCHER;
+    }
+
+    /**
+     * Gets the compiled matcher for an indexed barrier, without block entity fallback.
+     *
+     * @return the matcher, or null if no barrier is indexed at pos
+     */
+    @Nullable
+    public static MobBarrierMatcher getIndexedMatcher(Level level, BlockPos pos) {
+        Integer configId = getConfigId(level, pos);
+        return configId == null ? null : getMatcherById(configId);
+    }
+
+    /**
+     * Returns true if a barrier is indexed at pos in the given level.
+     */
+    public static boolean hasBarrier(Level level, BlockPos pos) {
+        return getConfigId(level, pos) != null;
+    }
+
+    /**
+     * Returns a counter that changes whenever a barrier in the section is added, removed or reconfigured.
+     * Zero if the section never held a barrier.
+     */
+    public static int getSectionVersion(Level level, long sectionKey) {
+        Map<Long, Integer> versions = SECTION_VERSIONS.get(level);
+        return versions == null ? 0 : versions.getOrDefault(sectionKey, 0);
+    }
+
+    /**
+     * Calls the consumer with every indexed barrier position in the given chunk section.
+     */
+    public static void forEachInSection(Level level, SectionPos section, Consumer<BlockPos> consumer) {
+        Map<Long, Map<Integer, Integer>> chunks = BARRIERS.get(level);
+        if (chunks == null) {
+            return;
+        }
+        Map<Integer, Integer> chunk = chunks.get(ChunkPos.asLong(section.x(), section.z()));
+        if (chunk == null) {
+            return;
+        }
+        for (int packed : chunk.keySet()) {
+            int y = packed >> 8;
+            if (SectionPos.blockToSectionCoord(y) == section.y()) {
+                consumer.accept(new BlockPos(section.minBlockX() + (packed & 15), y, section.minBlockZ() + ((packed >> 4) & 15)));
+            }
+        }
+    }
+
+    @Nullable
+    private static Integer getConfigId(Level level, BlockPos pos) {
+        Map<Long, Map<Integer, Integer>> chunks = BARRIERS.get(level);
+        if (chunks == null) {
+            return null;
+        }
+        Map<Integer, Integer> chunk = chunks.get(ChunkPos.asLong(pos));
+        return chunk == null ? null : chunk.get(packLocal(pos));
+    }
+
+    @Nullable
+    private static Level getLevel(BlockGetter getter) {
+        if (getter instanceof Level level) {
+            return level;
+        }
+        if (getter instanceof LevelChunk chunk) {
+            return chunk.getLevel();
+        }
+        return null;
+    }
+
+    /**
+     * Packs a position's chunk-local x/z (4 bits each) and absolute y into one int.
+     */
+    private static int packLocal(BlockPos pos) {
+        return (pos.getY() << 8) | (SectionPos.sectionRelative(pos.getZ()) << 4) | SectionPos.sectionRelative(pos.getX());
+    }
+
+    // ==================== EVENTS ====================
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            Map<Long, Map<Integer, Integer>> chunks = BARRIERS.remove(level);
+            if (chunks != null) {
+                for (Map<Integer, Integer> chunk : chunks.values()) {
+                    chunk.values().forEach(MobBarrierIndex::releaseId);
+                }
+            }
+            SECTION_VERSIONS.remove(level);
+        }
+    }
+}
@@ -1,28 +1,45 @@
 package net.j40climb.florafauna.common.block.mobbarrier;
 
 import net.j40climb.florafauna.FloraFauna;
-import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierConfig;
+import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierMatcher;
+import net.j40climb.florafauna.common.util.LineOfSight;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
-import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.BlockHitResult;
-import net.minecraft.world.phys.HitResult;
-import net.minecraft.world.phys.Vec3;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.living.LivingChangeTargetEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Handles vision blocking for MobBarrier blocks.
  * When a mob tries to target an entity, checks if there's a MobBarrier
  * with blockVision=true between them that would block this mob's vision.
+ *
+ * The ray is walked voxel by voxel by LineOfSight, so every block the
+ * segment passes through is visited exactly once, and each voxel is checked
+ * against MobBarrierIndex without touching block states. Results are cached
+ * per mob and target for a few ticks, since mobs re-acquire the same target often.
  */
 @EventBusSubscriber(modid = FloraFauna.MOD_ID)
 public class MobBarrierVisionBlockingHandler {
 
+    private static final int CACHE_TTL_TICKS = 5;
+    private static final int MAX_CACHED_TARGETS = 4;
+
+    /**
+     * A cached vision check result for one target.
+     */
+    private record CachedVision(int targetId, long expiresAt, boolean blocked) {}
+
+    // Weak keys - entries disappear with their mob
+    private static final Map<Mob, List<CachedVision>> VISION_CACHE = new WeakHashMap<>();
+
     @SubscribeEvent
     public static void onLivingChangeTarget(LivingChangeTargetEvent event) {
         // Only handle Mob entities (not all LivingEntities)
@@ -43,71 +60,48 @@ public class MobBarrierVisionBlockingHandler {
         }
 
         // Check if there's a vision-blocking barrier between mob and target
-        if (isVisionBlockedByBarrier(mob, newTarget)) {
+        if (isVisionBlockedCached(mob, newTarget)) {
             event.setCanceled(true);
         }
     }
 
     /**
-     * Checks if vision between mob and target is blocked by a MobBarrier
-     * with blockVision enabled for this mob type.
+     * Returns the cached result for this mob and target, computing it if missing or expired.
      */
-    private static boolean isVisionBlockedByBarrier(Mob mob, LivingEntity target) {
-        Level level = mob.level();
-        Vec3 mobEye = mob.getEyePosition();
-        Vec3 targetEye = target.getEyePosition();
-
-        // Ray cast from mob's eye to target's eye, looking for blocks
-        BlockHitResult result = level.clip(new ClipContext(
-                mobEye,
-                targetEye,
-                ClipContext.Block.COLLIDER,
-                ClipContext.Fluid.NONE,
-                mob
-        ));
-
-        // If we hit nothing or the hit was past the target, no blocking
-        if (result.getType() == HitResult.Type.MISS) {
-            return false;
+    private static boolean isVisionBlockedCached(Mob mob, LivingEntity target) {
+        long currentTick = mob.level().getGameTime();
+        List<CachedVision> entries = VISION_CACHE.computeIfAbsent(mob, key -> new ArrayList<>(MAX_CACHED_TARGETS));
+
+        entries.removeIf(entry -> entry.expiresAt() <= currentTick);
+        for (CachedVision entry : entries) {
+            if (entry.targetId() == target.getId()) {
+                return entry.blocked();
+            }
         }
 
-        // Check each block along the ray for MobBarrier with blockVision
-        // We need to check all barriers, not just the first hit
-        return checkRayForVisionBlockingBarrier(level, mobEye, targetEye, mob);
+        boolean blocked = isVisionBlockedByBarrier(mob, target);
+        if (entries.size() >= MAX_CACHED_TARGETS) {
+            entries.removeFirst();
+        }
+        entries.add(new CachedVision(target.getId(), currentTick + CACHE_TTL_TICKS, blocked));
+        return blocked;
     }
 
     /**
-     * Walks along the ray from start to end, checking for MobBarrier blocks
-     * that would block this mob's vision.
+     * Checks if vision between mob and target is blocked by a MobBarrier
+     * with blockVision enabled for this mob type.
+     * Walks every voxel on the segment from the mob's eye to the target's eye.
      */
-    private static boolean checkRayForVisionBlockingBarrier(Level level, Vec3 start, Vec3 end, Mob mob) {
-        Vec3 direction = end.subtract(start);
-        double distance = direction.length();
-        direction = direction.normalize();
-
-        // Step along the ray checking each block position
-        // Use small step size to ensure we don't skip blocks
-        double stepSize = 0.5;
-        double traveled = 0;
-
-        while (traveled < distance) {
-            Vec3 currentPos = start.add(direction.scale(traveled));
-            BlockPos blockPos = BlockPos.containing(currentPos);
-
-            BlockState state = level.getBlockState(blockPos);
-            if (state.getBlock() instanceof MobBarrierBlock) {
-                // Found a MobBarrier, check if it should block this mob's vision
-                if (level.getBlockEntity(blockPos) instanceof MobBarrierBlockEntity blockEntity) {
-                    MobBarrierConfig config = blockEntity.getConfig();
-                    if (config.blockVision() && config.shouldBlockEntity(mob)) {
-                        return true;
-                    }
-                }
-            }
-
-            traveled += stepSize;
-        }
+    private static boolean isVisionBlockedByBarrier(Mob mob, LivingEntity target) {
+        return !LineOfSight.isClear(mob.level(), mob.getEyePosition(), target.getEyePosition(),
+                MobBarrierVisionBlockingHandler::blocksVision, mob);
+    }
 
-        return false;
+    /**
+     * Checks if the barrier at pos (if any) blocks this mob's vision.
+     */
+    private static boolean blocksVision(Level level, BlockPos pos, Mob mob) {
+        MobBarrierMatcher matcher = MobBarrierIndex.getIndexedMatcher(level, pos);
+        return matcher != null && matcher.config().blockVision() && matcher.matches(mob);
     }
 }
@@ -4,13 +4,10 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.Identifier;
-import net.minecraft.tags.TagKey;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntityType;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -56,33 +53,18 @@ public record MobBarrierConfig(
     /**
      * Checks if the given entity should be blocked by this barrier.
      * Returns true if the entity matches any configured entity ID or tag.
+     * Delegates to the shared compiled MobBarrierMatcher for this config.
      */
     public boolean shouldBlockEntity(Entity entity) {
-        if (entity == null) return false;
-
-        EntityType<?> entityType = entity.getType();
-        Identifier entityId = BuiltInRegistries.ENTITY_TYPE.getKey(entityType);
-
-        // Check direct entity ID matches
-        for (String id : entityIds) {
-            if (id.equals(entityId.toString())) {
-                return true;
-            }
-        }
-
-        // Check entity tag matches
-        for (String tagString : entityTags) {
-            String tagPath = tagString.startsWith("#") ? tagString.substring(1) : tagString;
-            Identifier tagId = Identifier.tryParse(tagPath);
-            if (tagId != null) {
-                TagKey<EntityType<?>> tagKey = TagKey.create(Registries.ENTITY_TYPE, tagId);
-                if (entityType.is(tagKey)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return matcher().matches(entity);
+    }
+
+    /**
+     * Returns the shared compiled matcher for this config.
+     * Hot paths should keep the returned reference rather than calling this per check.
+     */
+    public MobBarrierMatcher matcher() {
+        return MobBarrierMatcher.of(this);
     }
 
     /**
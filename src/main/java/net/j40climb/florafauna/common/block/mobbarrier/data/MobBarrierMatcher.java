@@ -0,0 +1,137 @@
+package net.j40climb.florafauna.common.block.mobbarrier.data;
+
+import net.j40climb.florafauna.FloraFauna;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.Identifier;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled form of a MobBarrierConfig, used by collision and pathfinding checks.
+ *
+ * Entity IDs are resolved to EntityType references and tag strings to TagKeys
+ * once, when the matcher is built. Results are cached per EntityType and the
+ * caches are cleared when tags are reloaded, since tag membership can change.
+ *
+ * Matchers are interned per config, so identical barriers share one matcher.
+ * Interning is weak: an entry lives only while something (usually a barrier
+ * block entity) holds its matcher, so configs sent by clients do not pile up.
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public final class MobBarrierMatcher {
+
+    // Guarded by itself; the matcher strongly holds its config key, so values must be weak
+    private static final Map<MobBarrierConfig, WeakReference<MobBarrierMatcher>> MATCHERS = new WeakHashMap<>();
+
+    private final MobBarrierConfig config;
+    private final Set<EntityType<?>> entityTypes;
+    private final List<TagKey<EntityType<?>>> entityTags;
+    private final Map<EntityType<?>, Boolean> results = new ConcurrentHashMap<>();
+
+    private MobBarrierMatcher(MobBarrierConfig config) {
+        this.config = config;
+        Set<EntityType<?>> types = new HashSet<>();
+        for (String id : config.entityIds()) {
+            Identifier entityId = Identifier.tryParse(id);
+            if (entityId != null && BuiltInRegistries.ENTITY_TYPE.containsKey(entityId)) {
+                types.add(BuiltInRegistries.ENTITY_TYPE.getValue(entityId));
+            }
+        }
+        this.entityTypes = Set.copyOf(types);
+
+        List<TagKey<EntityType<?>>> tags = new ArrayList<>();
+        for (String tagString : config.entityTags()) {
+            String tagPath = tagString.startsWith("#") ? tagString.substring(1) : tagString;
+            Identifier tagId = Identifier.tryParse(tagPath);
+            if (tagId != null) {
+                tags.add(TagKey.create(Registries.ENTITY_TYPE, tagId));
+            }
+        }
+        this.entityTags = List.copyOf(tags);
+    }
+
+    /**
+     * Returns the shared compiled matcher for a config.
+     */
+    public static MobBarrierMatcher of(MobBarrierConfig config) {
+        synchronized (MATCHERS) {
+            WeakReference<MobBarrierMatcher> reference = MATCHERS.get(config);
+            MobBarrierMatcher matcher = reference == null ? null : reference.get();
+            if (matcher == null) {
+                matcher = new MobBarrierMatcher(config);
+                // Drop the stale entry first so its key is not kept in place of the new matcher's config
+                MATCHERS.remove(config);
+                MATCHERS.put(matcher.config, new WeakReference<>(matcher));
+            }
+            return matcher;
+        }
+    }
+
+    /**
+     * Returns the canonical config instance this matcher was compiled from.
+     * Barriers with equal configs share this instance.
+     */
+    public MobBarrierConfig config() {
+        return config;
+    }
+
+    /**
+     * Checks if the given entity should be blocked.
+     */
+    public boolean matches(Entity entity) {
+        return entity != null && matches(entity.getType());
+    }
+
+    /**
+     * Checks if entities of the given type should be blocked.
+     */
+    public boolean matches(EntityType<?> entityType) {
+        Boolean cached = results.get(entityType);
+        if (cached == null) {
+            cached = computeMatch(entityType);
+            results.put(entityType, cached);
+        }
+        return cached;
+    }
+
+    private boolean computeMatch(EntityType<?> entityType) {
+        if (entityTypes.contains(entityType)) {
+            return true;
+        }
+        for (TagKey<EntityType<?>> tagKey : entityTags) {
+            if (entityType.is(tagKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tag membership may have changed - drop every cached result.
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        synchronized (MATCHERS) {
+            for (WeakReference<MobBarrierMatcher> reference : MATCHERS.values()) {
+                MobBarrierMatcher matcher = reference.get();
+                if (matcher != null) {
+                    matcher.results.clear();
+                }
+            }
+        }
+    }
+}
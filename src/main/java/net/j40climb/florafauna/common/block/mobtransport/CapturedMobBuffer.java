@@ -4,8 +4,11 @@ import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
 
 /**
  * Buffer for captured mob tickets (queue storage).
@@ -13,12 +16,26 @@ import java.util.Optional;
  * <p>
  * Each captured mob is stored as a CapturedMobTicket containing
  * full NBT data for faithful reconstruction at the destination.
+ * <p>
+ * Tickets are kept in a min-heap ordered by release deadline, so the next
+ * ready ticket and the next release ETA are found without scanning the queue.
+ * Tickets with equal deadlines are released in insertion order.
  */
 public class CapturedMobBuffer {
     private static final String KEY_TICKETS = "captured_mobs";
 
-    private final List<CapturedMobTicket> tickets;
+    /**
+     * A queued ticket with its insertion sequence, used to keep FIFO order among equal deadlines.
+     */
+    private record QueuedTicket(CapturedMobTicket ticket, long sequence) {}
+
+    private static final Comparator<QueuedTicket> DEADLINE_ORDER = Comparator
+            .comparingLong((QueuedTicket q) -> q.ticket().readyAtTick())
+            .thenComparingLong(QueuedTicket::sequence);
+
+    private final PriorityQueue<QueuedTicket> tickets;
     private final int maxSize;
+    private long nextSequence = 0;
 
     /**
      * Creates a new buffer with the specified capacity.
@@ -27,7 +44,15 @@ public class CapturedMobBuffer {
      */
     public CapturedMobBuffer(int maxSize) {
         this.maxSize = maxSize;
-        this.tickets = new ArrayList<>();
+        this.tickets = new PriorityQueue<>(DEADLINE_ORDER);
+    }
+
+    /**
+     * Creates a buffer with no capacity limit.
+     * Used by MobOutputs, which always accept incoming tickets.
+     */
+    public static CapturedMobBuffer unbounded() {
+        return new CapturedMobBuffer(Integer.MAX_VALUE);
     }
 
     /**
@@ -79,58 +104,72 @@ public class CapturedMobBuffer {
      */
     public boolean add(CapturedMobTicket ticket) {
         if (canAccept()) {
-            tickets.add(ticket);
+            tickets.add(new QueuedTicket(ticket, nextSequence++));
             return true;
         }
         return false;
     }
 
     /**
-     * Gets the first ticket that is ready for release.
+     * Gets the ticket with the earliest deadline if it is ready for release.
+     * Does not remove it from the buffer.
      *
      * @param currentTick The current game tick
-     * @return The first ready ticket, or empty if none ready
+     * @return The earliest ready ticket, or empty if none ready
      */
     public Optional<CapturedMobTicket> getReadyTicket(long currentTick) {
-        return tickets.stream()
-                .filter(t -> t.isReady(currentTick))
-                .findFirst();
+        QueuedTicket head = tickets.peek();
+        if (head == null || !head.ticket().isReady(currentTick)) {
+            return Optional.empty();
+        }
+        return Optional.of(head.ticket());
     }
 
     /**
-     * Gets the next ticket ready for release, prioritizing the oldest.
+     * Removes and returns the ticket with the earliest deadline if it is ready for release.
      *
      * @param currentTick The current game tick
-     * @return The oldest ready ticket, or empty if none ready
+     * @return The earliest ready ticket, or empty if none ready
      */
     public Optional<CapturedMobTicket> pollReadyTicket(long currentTick) {
-        for (int i = 0; i < tickets.size(); i++) {
-            CapturedMobTicket ticket = tickets.get(i);
-            if (ticket.isReady(currentTick)) {
-                tickets.remove(i);
-                return Optional.of(ticket);
-            }
+        Optional<CapturedMobTicket> ready = getReadyTicket(currentTick);
+        if (ready.isPresent()) {
+            tickets.poll();
         }
-        return Optional.empty();
+        return ready;
     }
 
     /**
      * Removes a specific ticket from the buffer.
+     * Linear in the queue size; prefer {@link #pollReadyTicket} for releases.
      *
      * @param ticket The ticket to remove
      * @return true if removed
      */
     public boolean remove(CapturedMobTicket ticket) {
-        return tickets.remove(ticket);
+        Iterator<QueuedTicket> iter = tickets.iterator();
+        while (iter.hasNext()) {
+            if (iter.next().ticket().equals(ticket)) {
+                iter.remove();
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Gets all tickets (read-only copy).
+     * Gets all tickets in release order (read-only copy).
      *
-     * @return Copy of the ticket list
+     * @return Copy of the ticket list, earliest deadline first
      */
     public List<CapturedMobTicket> getTickets() {
-        return new ArrayList<>(tickets);
+        List<QueuedTicket> ordered = new ArrayList<>(tickets);
+        ordered.sort(DEADLINE_ORDER);
+        List<CapturedMobTicket> result = new ArrayList<>(ordered.size());
+        for (QueuedTicket queued : ordered) {
+            result.add(queued.ticket());
+        }
+        return result;
     }
 
     /**
@@ -138,6 +177,7 @@ public class CapturedMobBuffer {
      */
     public void clear() {
         tickets.clear();
+        nextSequence = 0;
     }
 
     /**
@@ -147,14 +187,19 @@ public class CapturedMobBuffer {
      * @return Ticks until next release, or -1 if no pending releases
      */
     public long getNextReleaseEta(long currentTick) {
-        long minEta = Long.MAX_VALUE;
-        for (CapturedMobTicket ticket : tickets) {
-            long eta = ticket.readyAtTick() - currentTick;
-            if (eta < minEta) {
-                minEta = eta;
-            }
+        QueuedTicket head = tickets.peek();
+        if (head == null) {
+            return -1;
         }
-        return minEta == Long.MAX_VALUE ? -1 : Math.max(0, minEta);
+        return Math.max(0, head.ticket().readyAtTick() - currentTick);
+    }
+
+    /**
+     * Gets the game tick at which the next ticket becomes ready, or -1 if empty.
+     */
+    public long getNextReadyTick() {
+        QueuedTicket head = tickets.peek();
+        return head == null ? -1 : head.ticket().readyAtTick();
     }
 
     // ==================== SERIALIZATION ====================
@@ -165,7 +210,18 @@ public class CapturedMobBuffer {
      * @param output The value output to write to
      */
     public void serialize(ValueOutput output) {
-        output.store(KEY_TICKETS, CapturedMobTicket.CODEC.listOf(), tickets);
+        serialize(output, KEY_TICKETS);
+    }
+
+    /**
+     * Saves the buffer contents under the given key.
+     * Tickets are written in release order so reloading preserves FIFO among equal deadlines.
+     *
+     * @param output The value output to write to
+     * @param key The key to store the ticket list under
+     */
+    public void serialize(ValueOutput output, String key) {
+        output.store(key, CapturedMobTicket.CODEC.listOf(), getTickets());
     }
 
     /**
@@ -174,8 +230,21 @@ public class CapturedMobBuffer {
      * @param input The value input to read from
      */
     public void deserialize(ValueInput input) {
-        tickets.clear();
-        input.read(KEY_TICKETS, CapturedMobTicket.CODEC.listOf())
-                .ifPresent(tickets::addAll);
+        deserialize(input, KEY_TICKETS);
+    }
+
+    /**
+     * Loads buffer contents stored under the given key.
+     *
+     * @param input The value input to read from
+     * @param key The key the ticket list is stored under
+     */
+    public void deserialize(ValueInput input, String key) {
+        clear();
+        input.read(key, CapturedMobTicket.CODEC.listOf()).ifPresent(list -> {
+            for (CapturedMobTicket ticket : list) {
+                tickets.add(new QueuedTicket(ticket, nextSequence++));
+            }
+        });
     }
 }
@@ -1,28 +1,49 @@
 package net.j40climb.florafauna.common.block.mobtransport;
 
+import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.resources.Identifier;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Represents a captured mob in the transport queue.
  * Contains all data needed to reconstruct the mob at the destination.
  * <p>
  * Full NBT preservation ensures names, equipment, variants, and modded data are retained.
+ * The NBT is encoded once at capture time into a compact blob (deflated when large),
+ * so saving a queue writes bytes instead of re-encoding every mob's tag tree.
  *
  * @param entityTypeId The Identifier of the entity type (e.g., "minecraft:cow")
- * @param entityNbt Full NBT data of the captured entity
+ * @param entityData Encoded NBT data of the captured entity (see {@link #entityNbt()})
  * @param capturedGameTime Game tick when the mob was captured
  * @param readyAtTick Game tick when the mob is ready for release
  * @param destinationPos The MobOutput block position where this mob will emerge (may be null)
@@ -31,13 +52,25 @@ import java.util.UUID;
  */
 public record CapturedMobTicket(
         Identifier entityTypeId,
-        CompoundTag entityNbt,
+        byte[] entityData,
         long capturedGameTime,
         long readyAtTick,
         @Nullable BlockPos destinationPos,
         @Nullable ResourceKey<Level> destinationDim,
         Optional<UUID> debugUUID
 ) {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // Resolved entity types by ID; entity types are a static registry, so entries never go stale
+    private static final Map<Identifier, Optional<EntityType<?>>> ENTITY_TYPES = new ConcurrentHashMap<>();
+
+    // Blob format marker (first byte of entityData)
+    private static final byte FORMAT_RAW = 0;
+    private static final byte FORMAT_DEFLATED = 1;
+
+    // Encoded NBT larger than this is deflated
+    private static final int COMPRESSION_THRESHOLD_BYTES = 512;
+
     /**
      * Helper record for serializing position + dimension pairs.
      */
@@ -50,7 +83,9 @@ public record CapturedMobTicket(
 
     public static final Codec<CapturedMobTicket> CODEC = RecordCodecBuilder.create(builder -> builder.group(
             Identifier.CODEC.fieldOf("entityType").forGetter(CapturedMobTicket::entityTypeId),
-            CompoundTag.CODEC.fieldOf("entityNbt").forGetter(CapturedMobTicket::entityNbt),
+            Codec.BYTE_BUFFER.optionalFieldOf("entityData").forGetter(t -> Optional.of(ByteBuffer.wrap(t.entityData))),
+            // Legacy: tickets saved before blob encoding stored the tag directly
+            CompoundTag.CODEC.optionalFieldOf("entityNbt").forGetter(t -> Optional.empty()),
             Codec.LONG.fieldOf("capturedAt").forGetter(CapturedMobTicket::capturedGameTime),
             Codec.LONG.fieldOf("readyAt").forGetter(CapturedMobTicket::readyAtTick),
             DestinationPos.CODEC.optionalFieldOf("destination").forGetter(t ->
@@ -61,14 +96,22 @@ public record CapturedMobTicket(
     ).apply(builder, CapturedMobTicket::fromCodec));
 
     private static CapturedMobTicket fromCodec(
-            Identifier type, CompoundTag nbt, long captured, long ready,
+            Identifier type, Optional<ByteBuffer> data, Optional<CompoundTag> legacyNbt, long captured, long ready,
             Optional<DestinationPos> dest, Optional<String> uuid) {
+        byte[] entityData = data.map(CapturedMobTicket::toArray)
+                .orElseGet(() -> encode(legacyNbt.orElseGet(CompoundTag::new)));
         BlockPos destPos = dest.map(DestinationPos::pos).orElse(null);
         ResourceKey<Level> destDim = dest.map(DestinationPos::dim).orElse(null);
-        return new CapturedMobTicket(type, nbt, captured, ready, destPos, destDim,
+        return new CapturedMobTicket(type, entityData, captured, ready, destPos, destDim,
                 uuid.map(UUID::fromString));
     }
 
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
     /**
      * Creates a new ticket for a captured mob.
      *
@@ -89,7 +132,76 @@ public record CapturedMobTicket(
             @Nullable ResourceKey<Level> destDim
     ) {
         Identifier typeId = BuiltInRegistries.ENTITY_TYPE.getKey(entityType);
-        return new CapturedMobTicket(typeId, entityNbt, capturedAt, readyAt, destPos, destDim, Optional.empty());
+        return new CapturedMobTicket(typeId, encode(entityNbt), capturedAt, readyAt, destPos, destDim, Optional.empty());
+    }
+
+    /**
+     * Resolves the captured entity's type.
+     *
+     * @return The entity type, or empty if it is no longer registered (e.g. a removed mod)
+     */
+    public Optional<EntityType<?>> resolveEntityType() {
+        return ENTITY_TYPES.computeIfAbsent(entityTypeId,
+                id -> BuiltInRegistries.ENTITY_TYPE.getOptional(id).map(type -> (EntityType<?>) type));
+    }
+
+    /**
+     * Decodes the captured entity's NBT.
+     * Returns an empty tag if the blob is corrupt, so the mob still spawns with defaults.
+     *
+     * @return A freshly decoded copy of the entity NBT
+     */
+    public CompoundTag entityNbt() {
+        if (entityData.length == 0) {
+            return new CompoundTag();
+        }
+        try {
+            InputStream in = new ByteArrayInputStream(entityData, 1, entityData.length - 1);
+            if (entityData[0] == FORMAT_DEFLATED) {
+                in = new InflaterInputStream(in);
+            }
+            try (DataInputStream data = new DataInputStream(in)) {
+                return NbtIo.read(data, NbtAccounter.unlimitedHeap());
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to decode captured {} data: {}", entityTypeId, e.getMessage());
+            return new CompoundTag();
+        }
+    }
+
+    /**
+     * Returns the size of the encoded entity data in bytes.
+     */
+    public int encodedSize() {
+        return entityData.length;
+    }
+
+    /**
+     * Encodes an entity tag into the blob format, deflating it when large.
+     */
+    private static byte[] encode(CompoundTag nbt) {
+        try {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            raw.write(FORMAT_RAW);
+            try (DataOutputStream out = new DataOutputStream(raw)) {
+                NbtIo.write(nbt, out);
+            }
+            byte[] rawBytes = raw.toByteArray();
+            if (rawBytes.length <= COMPRESSION_THRESHOLD_BYTES) {
+                return rawBytes;
+            }
+
+            ByteArrayOutputStream deflated = new ByteArrayOutputStream(rawBytes.length / 2);
+            deflated.write(FORMAT_DEFLATED);
+            try (DeflaterOutputStream out = new DeflaterOutputStream(deflated, new Deflater(Deflater.BEST_SPEED))) {
+                out.write(rawBytes, 1, rawBytes.length - 1);
+            }
+            byte[] deflatedBytes = deflated.toByteArray();
+            return deflatedBytes.length < rawBytes.length ? deflatedBytes : rawBytes;
+        } catch (IOException e) {
+            // In-memory streams do not throw
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -106,6 +218,30 @@ public record CapturedMobTicket(
      * Creates a ticket for a mob that's ready immediately (for emergency release).
      */
     public CapturedMobTicket withImmediateRelease() {
-        return new CapturedMobTicket(entityTypeId, entityNbt, capturedGameTime, 0L, destinationPos, destinationDim, debugUUID);
+        return new CapturedMobTicket(entityTypeId, entityData, capturedGameTime, 0L, destinationPos, destinationDim, debugUUID);
+    }
+
+    // Records compare arrays by reference; compare the blob contents instead
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CapturedMobTicket other)) return false;
+        return capturedGameTime == other.capturedGameTime
+                && readyAtTick == other.readyAtTick
+                && entityTypeId.equals(other.entityTypeId)
+                && Arrays.equals(entityData, other.entityData)
+                && Objects.equals(destinationPos, other.destinationPos)
+                && Objects.equals(destinationDim, other.destinationDim)
+                && debugUUID.equals(other.debugUUID);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = entityTypeId.hashCode();
+        result = 31 * result + Arrays.hashCode(entityData);
+        result = 31 * result + Long.hashCode(capturedGameTime);
+        result = 31 * result + Long.hashCode(readyAtTick);
+        return result;
     }
 }
@@ -3,6 +3,7 @@ package net.j40climb.florafauna.common.block.mobtransport;
 import com.mojang.serialization.MapCodec;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -87,7 +88,7 @@ public class MobInputBlock extends BaseEntityBlock {
                     );
                 } else {
                     // Enter linking mode
-                    MobInputLinkingState.setLinkingFrom(player, pos);
+                    MobInputLinkingState.setLinkingFrom(player, GlobalPos.of(level.dimension(), pos));
                     player.displayClientMessage(
                             Component.translatable("message.florafauna.mob_input.linking_mode"),
                             true
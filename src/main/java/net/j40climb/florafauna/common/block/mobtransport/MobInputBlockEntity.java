@@ -4,12 +4,13 @@ import net.j40climb.florafauna.Config;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteHelper;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.core.HolderLookup;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -32,6 +33,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -48,24 +50,41 @@ import java.util.UUID;
  */
 public class MobInputBlockEntity extends BlockEntity {
     private static final String KEY_PAIRED_OUTPUT = "paired_output";
+    private static final String KEY_PAIRED_OUTPUT_DIM = "paired_output_dim";
     private static final String KEY_BACKOFF = "backoff_ticks";
     private static final String KEY_TARGET_X = "targetX";
     private static final String KEY_TARGET_Y = "targetY";
     private static final String KEY_TARGET_Z = "targetZ";
+    private static final String KEY_QUEUED_COUNT = "queued_count";
+    private static final String KEY_NEXT_RELEASE = "next_release_tick";
 
-    // Paired MobOutput position
+    // How far beyond the lure radius the one-time recovery sweep looks for mobs lured here
+    private static final int LURE_RECOVERY_MARGIN = 10;
+
+    // Paired MobOutput position and dimension (null dimension = same as this input)
     @Nullable
     private BlockPos pairedOutputPos;
+    @Nullable
+    private ResourceKey<Level> pairedOutputDim;
 
     // Buffer for captured mobs
     private final CapturedMobBuffer buffer;
 
+    // Runtime IDs of mobs this input is luring (transient; lure goals are not saved either)
+    private final Set<Integer> luredMobIds = new HashSet<>();
+    // Whether luredMobIds has been rebuilt from the world since this block entity loaded
+    private boolean luredMobsRecovered = false;
+
     // Closest mob tracking for animation
     @Nullable
     private Vec3 targetPosition;
     @Nullable
     private UUID targetMobId;
 
+    // Queue summary received from the server (tickets are not synced to clients)
+    private int syncedQueuedCount = 0;
+    private long syncedNextReleaseTick = -1;
+
     // Tick counters
     private int lureCooldown = 0;
     private int captureCooldown = 0;
@@ -81,11 +100,29 @@ public class MobInputBlockEntity extends BlockEntity {
         this.buffer = new CapturedMobBuffer(Config.maxQueueSizePerInput);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        // Complete a pairing made from another dimension while this input was unloaded
+        if (level instanceof ServerLevel serverLevel) {
+            GlobalPos pending = MobTransportNetwork.get(serverLevel.getServer())
+                    .takePendingPairing(GlobalPos.of(level.dimension(), worldPosition));
+            if (pending != null) {
+                pairWithOutput(pending);
+            }
+        }
+    }
+
     public void tick(Level level, BlockPos pos, BlockState state) {
         if (level.isClientSide()) {
             return;
         }
 
+        // Lure goals outlive this block entity while their mobs stay loaded
+        if (!luredMobsRecovered) {
+            recoverLuredMobs(level);
+        }
+
         // Handle backoff
         if (backoffTicks > 0) {
             backoffTicks--;
@@ -118,9 +155,6 @@ public class MobInputBlockEntity extends BlockEntity {
         Mob closestMob = null;
         double closestDistSq = Double.MAX_VALUE;
 
-        // Track which mobs are in range for cleanup
-        Set<UUID> mobsInRange = new HashSet<>();
-
         for (Mob mob : nearbyMobs) {
             // Only mobs with a MobSymbiote can be lured
             if (!MobSymbioteHelper.hasMobSymbiote(mob)) {
@@ -132,7 +166,6 @@ public class MobInputBlockEntity extends BlockEntity {
                 continue;
             }
 
-            mobsInRange.add(mob.getUUID());
             double distSq = mob.distanceToSqr(center);
 
             // Track closest for animation
@@ -142,21 +175,13 @@ public class MobInputBlockEntity extends BlockEntity {
             }
 
             // Start luring if not full and not already lured to this block
-            if (!buffer.isFull() && !MobSymbioteHelper.isBeingLuredTo(mob, pos)) {
-                MobSymbioteHelper.startLuring(mob, pos);
+            if (!buffer.isFull() && !luredMobIds.contains(mob.getId()) && MobSymbioteHelper.startLuring(mob, pos)) {
+                luredMobIds.add(mob.getId());
             }
         }
 
         // Stop luring mobs that have left the area or are now lured elsewhere
-        // We need to scan a larger area to find mobs that were lured but left
-        AABB cleanupArea = new AABB(pos).inflate(radius + 10);
-        List<Mob> allNearbyMobs = level.getEntitiesOfClass(Mob.class, cleanupArea);
-        for (Mob mob : allNearbyMobs) {
-            if (MobSymbioteHelper.isBeingLuredTo(mob, pos) && !mobsInRange.contains(mob.getUUID())) {
-                // Mob was lured to this block but is no longer in range
-                MobSymbioteHelper.stopLuring(mob);
-            }
-        }
+        cleanupLuredMobs(level, pos, lureArea, currentTick);
 
         // Update target tracking
         Vec3 oldTarget = targetPosition;
@@ -185,6 +210,58 @@ public class MobInputBlockEntity extends BlockEntity {
         }
     }
 
+    /**
+     * Visits only the mobs this input lured, dropping those that are gone, out of range,
+     * no longer eligible, or now lured to a different block.
+     */
+    private void cleanupLuredMobs(Level level, BlockPos pos, AABB lureArea, long currentTick) {
+        Iterator<Integer> iter = luredMobIds.iterator();
+        while (iter.hasNext()) {
+            if (!(level.getEntity(iter.next()) instanceof Mob mob) || mob.isRemoved()) {
+                iter.remove();
+                continue;
+            }
+            if (!MobSymbioteHelper.isBeingLuredTo(mob, pos)) {
+                // Lured elsewhere (or goal removed externally)
+                iter.remove();
+                continue;
+            }
+            boolean inRange = mob.getBoundingBox().intersects(lureArea)
+                    && MobSymbioteHelper.hasMobSymbiote(mob)
+                    && MobCaptureEligibility.isEligible(mob, currentTick);
+            if (!inRange) {
+                MobSymbioteHelper.stopLuring(mob);
+                iter.remove();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the lured set with one sweep for mobs still lured to this block.
+     * Run once after load, since a lured mob may have wandered out of the lure area
+     * while this input's chunk was unloaded and would otherwise never be visited.
+     */
+    private void recoverLuredMobs(Level level) {
+        luredMobsRecovered = true;
+        AABB sweepArea = new AABB(worldPosition).inflate(Config.lureRadius + LURE_RECOVERY_MARGIN);
+        for (Mob mob : level.getEntitiesOfClass(Mob.class, sweepArea,
+                mob -> MobSymbioteHelper.isBeingLuredTo(mob, worldPosition))) {
+            luredMobIds.add(mob.getId());
+        }
+    }
+
+    /**
+     * Stops luring every mob this input lured.
+     */
+    private void stopLuringAll(Level level) {
+        for (int id : luredMobIds) {
+            if (level.getEntity(id) instanceof Mob mob && MobSymbioteHelper.isBeingLuredTo(mob, worldPosition)) {
+                MobSymbioteHelper.stopLuring(mob);
+            }
+        }
+        luredMobIds.clear();
+    }
+
     // ==================== CAPTURE PHASE ====================
 
     private void tickCapture(Level level, BlockPos pos, BlockState state) {
@@ -264,10 +341,11 @@ public class MobInputBlockEntity extends BlockEntity {
                 currentTick,
                 currentTick + delay,
                 pairedOutputPos,
-                level.dimension()
+                getPairedOutputGlobal(level).dimension()
         );
 
         buffer.add(ticket);
+        syncQueueToClients(level);
 
         // Trigger symbiote dialogue for nearby players
         if (level instanceof ServerLevel serverLevel) {
@@ -276,6 +354,7 @@ public class MobInputBlockEntity extends BlockEntity {
 
         // Stop luring before removing
         MobSymbioteHelper.stopLuring(mob);
+        luredMobIds.remove(mob.getId());
 
         // Remove mob from world
         mob.discard();
@@ -303,41 +382,67 @@ public class MobInputBlockEntity extends BlockEntity {
             return;
         }
 
-        // Get paired output
-        MobOutputBlockEntity output = getPairedOutput(level);
-        if (output == null) {
-            applyBackoff();
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        GlobalPos destination = getPairedOutputGlobal(level);
+
+        // Hand the ticket over directly if the output is loaded
+        MobOutputBlockEntity output = getPairedOutput(serverLevel);
+        if (output != null) {
+            if (output.acceptTicket(readyTicket.get())) {
+                onTicketSent(level, currentTick);
+            } else {
+                applyBackoff();
+            }
             return;
         }
+        if (!isPaired()) {
+            return; // Output was removed
+        }
 
-        // Transfer ticket to output
-        if (output.acceptTicket(readyTicket.get())) {
-            buffer.remove(readyTicket.get());
-            currentBackoff = 0; // Reset backoff on success
-            setChanged();
+        // Output's chunk is not loaded; park the ticket until it is
+        MobTransportNetwork network = MobTransportNetwork.get(serverLevel.getServer());
+        if (network.isOutputRegistered(destination)) {
+            network.send(destination, readyTicket.get());
+            onTicketSent(level, currentTick);
         } else {
+            // Unknown output (placed before the network existed); retry when it loads
             applyBackoff();
         }
     }
 
+    private void onTicketSent(Level level, long currentTick) {
+        buffer.pollReadyTicket(currentTick);
+        currentBackoff = 0; // Reset backoff on success
+        setChanged();
+        syncQueueToClients(level);
+    }
+
     // ==================== PAIRING ====================
 
-    public void pairWithOutput(BlockPos outputPos) {
+    /**
+     * Pairs this input with an output, which may be in another dimension.
+     *
+     * @param output The MobOutput position and dimension
+     */
+    public void pairWithOutput(GlobalPos output) {
         // Unpair from old output first
-        if (pairedOutputPos != null && level != null) {
-            MobOutputBlockEntity oldOutput = getPairedOutput(level);
+        if (pairedOutputPos != null && level instanceof ServerLevel serverLevel) {
+            MobOutputBlockEntity oldOutput = getPairedOutput(serverLevel);
             if (oldOutput != null) {
-                oldOutput.unpairInput(worldPosition);
+                oldOutput.unpairInput(GlobalPos.of(level.dimension(), worldPosition));
             }
         }
 
-        this.pairedOutputPos = outputPos;
+        this.pairedOutputPos = output.pos();
+        this.pairedOutputDim = output.dimension();
 
         // Register with new output
-        if (level != null && outputPos != null) {
-            BlockEntity be = level.getBlockEntity(outputPos);
-            if (be instanceof MobOutputBlockEntity output) {
-                output.pairInput(worldPosition);
+        if (level instanceof ServerLevel serverLevel) {
+            MobOutputBlockEntity newOutput = getPairedOutput(serverLevel);
+            if (newOutput != null) {
+                newOutput.pairInput(GlobalPos.of(level.dimension(), worldPosition));
             }
         }
 
@@ -345,31 +450,49 @@ public class MobInputBlockEntity extends BlockEntity {
     }
 
     public void unpairOutput() {
-        if (pairedOutputPos != null && level != null) {
-            MobOutputBlockEntity output = getPairedOutput(level);
+        if (pairedOutputPos != null && level instanceof ServerLevel serverLevel) {
+            MobOutputBlockEntity output = getPairedOutput(serverLevel);
             if (output != null) {
-                output.unpairInput(worldPosition);
+                output.unpairInput(GlobalPos.of(level.dimension(), worldPosition));
             }
         }
         pairedOutputPos = null;
+        pairedOutputDim = null;
         setChanged();
     }
 
+    /**
+     * Gets the paired output if its chunk is loaded. Never loads chunks.
+     * Clears the pairing if the output's chunk is loaded but the output is gone.
+     */
     @Nullable
-    private MobOutputBlockEntity getPairedOutput(Level level) {
+    private MobOutputBlockEntity getPairedOutput(ServerLevel level) {
         if (pairedOutputPos == null) {
             return null;
         }
-        BlockEntity be = level.getBlockEntity(pairedOutputPos);
+        ServerLevel outputLevel = level.getServer().getLevel(getPairedOutputGlobal(level).dimension());
+        if (outputLevel == null || !outputLevel.isLoaded(pairedOutputPos)) {
+            return null;
+        }
+        BlockEntity be = outputLevel.getBlockEntity(pairedOutputPos);
         if (be instanceof MobOutputBlockEntity output) {
             return output;
         }
         // Output was removed
         pairedOutputPos = null;
+        pairedOutputDim = null;
         setChanged();
         return null;
     }
 
+    /**
+     * Gets the paired output's position and dimension.
+     * Pairings saved before cross-dimension support default to this input's dimension.
+     */
+    private GlobalPos getPairedOutputGlobal(Level level) {
+        return GlobalPos.of(pairedOutputDim != null ? pairedOutputDim : level.dimension(), pairedOutputPos);
+    }
+
     public boolean isPaired() {
         return pairedOutputPos != null;
     }
@@ -394,14 +517,10 @@ public class MobInputBlockEntity extends BlockEntity {
     public void onRemoved() {
         // Stop luring all mobs that were being lured to this block
         if (level != null && !level.isClientSide()) {
-            int radius = Config.lureRadius + 10;
-            AABB cleanupArea = new AABB(worldPosition).inflate(radius);
-            List<Mob> nearbyMobs = level.getEntitiesOfClass(Mob.class, cleanupArea);
-            for (Mob mob : nearbyMobs) {
-                if (MobSymbioteHelper.isBeingLuredTo(mob, worldPosition)) {
-                    MobSymbioteHelper.stopLuring(mob);
-                }
+            if (!luredMobsRecovered) {
+                recoverLuredMobs(level);
             }
+            stopLuringAll(level);
         }
 
         // Release all captured mobs at the block position
@@ -412,11 +531,16 @@ public class MobInputBlockEntity extends BlockEntity {
         }
         buffer.clear();
         unpairOutput();
+
+        // Drop a pairing still waiting for this input, so it does not outlive the block
+        if (level instanceof ServerLevel serverLevel) {
+            MobTransportNetwork.get(serverLevel.getServer()).takePendingPairing(GlobalPos.of(level.dimension(), worldPosition));
+        }
     }
 
     private void spawnMobFromTicket(ServerLevel level, BlockPos pos, CapturedMobTicket ticket) {
         // Create entity from NBT
-        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getValue(ticket.entityTypeId());
+        EntityType<?> type = ticket.resolveEntityType().orElse(null);
         if (type == null) {
             return;
         }
@@ -450,6 +574,31 @@ public class MobInputBlockEntity extends BlockEntity {
         return buffer;
     }
 
+    /**
+     * Gets the number of queued mobs. On the client this is the last synced count.
+     */
+    public int getQueuedCount() {
+        return level != null && level.isClientSide() ? syncedQueuedCount : buffer.size();
+    }
+
+    /**
+     * Gets the ticks until the next queued mob is ready, or -1 if the queue is empty.
+     * On the client this is derived from the last synced release tick.
+     *
+     * @param currentTick The current game tick
+     */
+    public long getNextReleaseEta(long currentTick) {
+        if (level != null && level.isClientSide()) {
+            return syncedNextReleaseTick < 0 ? -1 : Math.max(0, syncedNextReleaseTick - currentTick);
+        }
+        return buffer.getNextReleaseEta(currentTick);
+    }
+
+    private void syncQueueToClients(Level level) {
+        BlockState state = getBlockState();
+        level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_CLIENTS);
+    }
+
     @Nullable
     public BlockPos getPairedOutputPos() {
         return pairedOutputPos;
@@ -474,6 +623,9 @@ public class MobInputBlockEntity extends BlockEntity {
 
         if (pairedOutputPos != null) {
             output.store(KEY_PAIRED_OUTPUT, BlockPos.CODEC, pairedOutputPos);
+            if (pairedOutputDim != null) {
+                output.store(KEY_PAIRED_OUTPUT_DIM, Level.RESOURCE_KEY_CODEC, pairedOutputDim);
+            }
         }
         output.putInt(KEY_BACKOFF, currentBackoff);
         buffer.serialize(output);
@@ -491,8 +643,11 @@ public class MobInputBlockEntity extends BlockEntity {
         super.loadAdditional(input);
 
         pairedOutputPos = input.read(KEY_PAIRED_OUTPUT, BlockPos.CODEC).orElse(null);
+        pairedOutputDim = input.read(KEY_PAIRED_OUTPUT_DIM, Level.RESOURCE_KEY_CODEC).orElse(null);
         currentBackoff = input.getIntOr(KEY_BACKOFF, 0);
         buffer.deserialize(input);
+        syncedQueuedCount = input.getIntOr(KEY_QUEUED_COUNT, buffer.size());
+        syncedNextReleaseTick = input.getLongOr(KEY_NEXT_RELEASE, buffer.getNextReadyTick());
 
         // Load target position for client
         // Use -1 as sentinel value since world coordinates are unlikely to be exactly -1
@@ -506,9 +661,24 @@ public class MobInputBlockEntity extends BlockEntity {
         }
     }
 
+    /**
+     * Client sync carries only pairing, animation target, and a queue summary.
+     * Captured mob data stays on the server.
+     */
     @Override
     public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
-        return saveWithoutMetadata(registries);
+        CompoundTag tag = new CompoundTag();
+        if (pairedOutputPos != null) {
+            tag.store(KEY_PAIRED_OUTPUT, BlockPos.CODEC, pairedOutputPos);
+        }
+        if (targetPosition != null) {
+            tag.putDouble(KEY_TARGET_X, targetPosition.x);
+            tag.putDouble(KEY_TARGET_Y, targetPosition.y);
+            tag.putDouble(KEY_TARGET_Z, targetPosition.z);
+        }
+        tag.putInt(KEY_QUEUED_COUNT, buffer.size());
+        tag.putLong(KEY_NEXT_RELEASE, buffer.getNextReadyTick());
+        return tag;
     }
 
     @Nullable
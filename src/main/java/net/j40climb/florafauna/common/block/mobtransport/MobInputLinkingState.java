@@ -1,6 +1,6 @@
 package net.j40climb.florafauna.common.block.mobtransport;
 
-import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.world.entity.player.Player;
 import org.jetbrains.annotations.Nullable;
 
@@ -24,15 +24,15 @@ public final class MobInputLinkingState {
     }
 
     // ConcurrentHashMap allows safe concurrent access from multiple threads
-    private static final Map<UUID, BlockPos> linkingPlayers = new ConcurrentHashMap<>();
+    private static final Map<UUID, GlobalPos> linkingPlayers = new ConcurrentHashMap<>();
 
     /**
      * Sets the MobInput position a player is linking from.
      *
      * @param player The player entering linking mode
-     * @param inputPos The MobInput block position
+     * @param inputPos The MobInput block position and dimension
      */
-    public static void setLinkingFrom(Player player, BlockPos inputPos) {
+    public static void setLinkingFrom(Player player, GlobalPos inputPos) {
         linkingPlayers.put(player.getUUID(), inputPos);
     }
 
@@ -40,10 +40,10 @@ public final class MobInputLinkingState {
      * Gets the MobInput position a player is linking from.
      *
      * @param player The player to check
-     * @return The MobInput position, or null if not in linking mode
+     * @return The MobInput position and dimension, or null if not in linking mode
      */
     @Nullable
-    public static BlockPos getLinkingFrom(Player player) {
+    public static GlobalPos getLinkingFrom(Player player) {
         return linkingPlayers.get(player.getUUID());
     }
 
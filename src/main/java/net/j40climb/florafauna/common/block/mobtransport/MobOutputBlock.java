@@ -3,6 +3,7 @@ package net.j40climb.florafauna.common.block.mobtransport;
 import com.mojang.serialization.MapCodec;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
@@ -112,8 +113,8 @@ public class MobOutputBlock extends BaseEntityBlock implements BonemealableBlock
                 // Get the new MobInput and pair it
                 BlockEntity inputBe = level.getBlockEntity(inputPos);
                 if (inputBe instanceof MobInputBlockEntity mobInput) {
-                    mobInput.pairWithOutput(pos);
-                    output.pairInput(inputPos);
+                    mobInput.pairWithOutput(GlobalPos.of(level.dimension(), pos));
+                    output.pairInput(GlobalPos.of(level.dimension(), inputPos));
                 }
                 break;
             }
@@ -130,19 +131,28 @@ public class MobOutputBlock extends BaseEntityBlock implements BonemealableBlock
         }
 
         // Check if player is in linking mode
-        BlockPos linkingFrom = MobInputLinkingState.getLinkingFrom(player);
-        if (linkingFrom != null) {
-            // Complete the pairing
-            BlockEntity inputBe = level.getBlockEntity(linkingFrom);
-            BlockEntity outputBe = level.getBlockEntity(pos);
-
-            if (inputBe instanceof MobInputBlockEntity mobInput && outputBe instanceof MobOutputBlockEntity mobOutput) {
-                mobInput.pairWithOutput(pos);
+        GlobalPos linkingFrom = MobInputLinkingState.getLinkingFrom(player);
+        if (linkingFrom != null && level instanceof ServerLevel serverLevel
+                && level.getBlockEntity(pos) instanceof MobOutputBlockEntity mobOutput) {
+            // Complete the pairing; the input may be in another dimension or an unloaded chunk
+            GlobalPos outputPos = GlobalPos.of(level.dimension(), pos);
+            ServerLevel inputLevel = serverLevel.getServer().getLevel(linkingFrom.dimension());
+            boolean deferred = inputLevel != null && !inputLevel.isLoaded(linkingFrom.pos());
+            BlockEntity inputBe = MobTransportNetwork.getLoadedBlockEntity(serverLevel.getServer(), linkingFrom);
+
+            if (inputBe instanceof MobInputBlockEntity mobInput) {
+                mobInput.pairWithOutput(outputPos);
+            } else if (deferred) {
+                // Input completes the pairing when its chunk next loads
+                MobTransportNetwork.get(serverLevel.getServer()).requestPairing(linkingFrom, outputPos);
+            }
+
+            if (inputBe instanceof MobInputBlockEntity || deferred) {
                 mobOutput.pairInput(linkingFrom);
                 MobInputLinkingState.clearLinking(player);
                 player.displayClientMessage(
                         Component.translatable("message.florafauna.mob_input.paired_to_output",
-                                linkingFrom.getX(), linkingFrom.getY(), linkingFrom.getZ()),
+                                linkingFrom.pos().getX(), linkingFrom.pos().getY(), linkingFrom.pos().getZ()),
                         true
                 );
                 return InteractionResult.SUCCESS;
@@ -2,10 +2,12 @@ package net.j40climb.florafauna.common.block.mobtransport;
 
 import net.j40climb.florafauna.Config;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteHelper;
+import net.j40climb.florafauna.common.util.LineOfSight;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.core.HolderLookup;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
@@ -17,13 +19,17 @@ import net.minecraft.util.ProblemReporter;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntitySpawnReason;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.TagValueInput;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -39,13 +45,27 @@ import java.util.*;
  */
 public class MobOutputBlockEntity extends BlockEntity {
     private static final String KEY_PAIRED_INPUTS = "paired_inputs";
+    private static final String KEY_PAIRED_INPUTS_GLOBAL = "paired_inputs_global";
     private static final String KEY_PENDING = "pending_release";
+    private static final String KEY_PENDING_COUNT = "pending_count";
+    private static final String KEY_NEXT_RELEASE = "next_release_tick";
 
-    // Paired MobInput positions
-    private final Set<BlockPos> pairedInputs = new HashSet<>();
+    // Blocks with a collision shape cut the line from the output to a release spot; the output itself does not
+    private static final LineOfSight.OpacityTest<BlockPos> RELEASE_OPACITY = (level, pos, output) ->
+            !pos.equals(output) && !level.getBlockState(pos).getCollisionShape(level, pos).isEmpty();
 
-    // Tickets waiting for release
-    private final List<CapturedMobTicket> pendingRelease = new ArrayList<>();
+    // Paired MobInput positions, in any dimension
+    private final Set<GlobalPos> pairedInputs = new HashSet<>();
+
+    // Pairings saved before cross-dimension support; resolved against this level on load
+    private final List<BlockPos> legacyPairedInputs = new ArrayList<>();
+
+    // Tickets waiting for release, ordered by deadline
+    private final CapturedMobBuffer pendingRelease = CapturedMobBuffer.unbounded();
+
+    // Queue summary received from the server (tickets are not synced to clients)
+    private int syncedPendingCount = 0;
+    private long syncedNextReleaseTick = -1;
 
     // Release cooldown
     private int releaseCooldown = 0;
@@ -54,6 +74,29 @@ public class MobOutputBlockEntity extends BlockEntity {
         super(FloraFaunaRegistry.MOB_OUTPUT_BE.get(), pos, state);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
+        for (BlockPos inputPos : legacyPairedInputs) {
+            pairedInputs.add(GlobalPos.of(level.dimension(), inputPos));
+        }
+        legacyPairedInputs.clear();
+
+        // Register with the transport network and collect tickets that arrived while unloaded
+        MobTransportNetwork network = MobTransportNetwork.get(serverLevel.getServer());
+        GlobalPos self = GlobalPos.of(level.dimension(), worldPosition);
+        network.registerOutput(self);
+        List<CapturedMobTicket> delivered = network.collect(self);
+        if (!delivered.isEmpty()) {
+            delivered.forEach(pendingRelease::add);
+            setChanged();
+        }
+    }
+
     public void tick(Level level, BlockPos pos, BlockState state) {
         if (level.isClientSide()) {
             return;
@@ -73,34 +116,38 @@ public class MobOutputBlockEntity extends BlockEntity {
             return;
         }
 
-        long currentTick = level.getGameTime();
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
 
-        // Find ready tickets
-        Iterator<CapturedMobTicket> iter = pendingRelease.iterator();
-        while (iter.hasNext()) {
-            CapturedMobTicket ticket = iter.next();
-            if (ticket.isReady(currentTick)) {
-                // Spawn the mob
-                spawnMob(level, pos, ticket);
-                iter.remove();
-                setChanged();
-                break; // One release per tick
+        // Release ready mobs up to the count and time budgets (always at least one)
+        long currentTick = level.getGameTime();
+        long deadline = System.nanoTime() + Config.releaseTimeBudgetMicros * 1000L;
+        int released = 0;
+        while (released < Config.releaseMaxPerCheck && (released == 0 || System.nanoTime() < deadline)) {
+            Optional<CapturedMobTicket> ticket = pendingRelease.pollReadyTicket(currentTick);
+            if (ticket.isEmpty()) {
+                break;
             }
+            spawnMob(serverLevel, pos, ticket.get());
+            released++;
         }
-    }
 
-    private void spawnMob(Level level, BlockPos pos, CapturedMobTicket ticket) {
-        if (!(level instanceof ServerLevel serverLevel)) {
-            return;
+        if (released > 0) {
+            playEmergenceSound(level, pos);
+            setChanged();
+            syncQueueToClients();
         }
+    }
 
+    private void spawnMob(ServerLevel level, BlockPos pos, CapturedMobTicket ticket) {
         // Create entity from NBT
-        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getValue(ticket.entityTypeId());
+        EntityType<?> type = ticket.resolveEntityType().orElse(null);
         if (type == null) {
             return;
         }
 
-        Entity entity = type.create(serverLevel, EntitySpawnReason.TRIGGERED);
+        Entity entity = type.create(level, EntitySpawnReason.TRIGGERED);
         if (entity == null) {
             return;
         }
@@ -108,14 +155,15 @@ public class MobOutputBlockEntity extends BlockEntity {
         // Load entity data from NBT
         ValueInput input = TagValueInput.create(
                 ProblemReporter.DISCARDING,
-                serverLevel.registryAccess(),
+                level.registryAccess(),
                 ticket.entityNbt()
         );
         entity.load(input);
 
-        // Spawn slightly above the block
-        entity.snapTo(pos.getX() + 0.5, pos.getY() + 1, pos.getZ() + 0.5, 0, 0);
-        serverLevel.addFreshEntity(entity);
+        // Spawn on top of the block, or spread to a nearby free spot
+        Vec3 spot = findReleaseSpot(level, pos, type);
+        entity.snapTo(spot.x, spot.y, spot.z, 0, 0);
+        level.addFreshEntity(entity);
 
         // Mark as recently released (capture immunity) and remove any lure goal
         if (entity instanceof Mob mob) {
@@ -123,8 +171,53 @@ public class MobOutputBlockEntity extends BlockEntity {
             MobSymbioteHelper.markRecentlyReleased(mob, immunityUntil);
             MobSymbioteHelper.stopLuring(mob);
         }
+    }
 
-        // Play emergence sound
+    /**
+     * Finds where to release a mob. Uses the top of the block when it is free, otherwise
+     * walks outward (same level as the output, then one above) for a spot the mob fits in,
+     * with a solid floor and a clear line from the output. A spot counts as taken while a
+     * living entity stands in it, so mobs released in one batch spread out instead of
+     * stacking. Falls back to the top of the block.
+     */
+    private Vec3 findReleaseSpot(ServerLevel level, BlockPos pos, EntityType<?> type) {
+        Vec3 top = new Vec3(pos.getX() + 0.5, pos.getY() + 1, pos.getZ() + 0.5);
+        int radius = Config.releaseSpreadRadius;
+        if (radius <= 0 || isFreeSpot(level, type, top)) {
+            return top;
+        }
+
+        Vec3 center = Vec3.atCenterOf(pos);
+        for (int dy = 0; dy <= 1; dy++) {
+            for (int r = 1; r <= radius; r++) {
+                for (int dx = -r; dx <= r; dx++) {
+                    for (int dz = -r; dz <= r; dz++) {
+                        if (Math.max(Math.abs(dx), Math.abs(dz)) != r) {
+                            continue; // Only the ring at distance r
+                        }
+                        Vec3 spot = new Vec3(pos.getX() + dx + 0.5, pos.getY() + dy, pos.getZ() + dz + 0.5);
+                        BlockPos floor = BlockPos.containing(spot).below();
+                        if (level.getBlockState(floor).isFaceSturdy(level, floor, Direction.UP)
+                                && isFreeSpot(level, type, spot)
+                                && LineOfSight.isClear(level, center, spot.add(0, 0.5, 0), RELEASE_OPACITY, pos)) {
+                            return spot;
+                        }
+                    }
+                }
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Checks that a mob fits at the spot and no living entity already stands there.
+     */
+    private static boolean isFreeSpot(ServerLevel level, EntityType<?> type, Vec3 spot) {
+        AABB box = type.getSpawnAABB(spot.x, spot.y, spot.z);
+        return level.noCollision(box) && level.getEntitiesOfClass(LivingEntity.class, box).isEmpty();
+    }
+
+    private void playEmergenceSound(Level level, BlockPos pos) {
         level.playSound(null, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
                 SoundEvents.SLIME_SQUISH, SoundSource.BLOCKS, 1.0f, 0.8f + level.random.nextFloat() * 0.4f);
     }
@@ -138,15 +231,16 @@ public class MobOutputBlockEntity extends BlockEntity {
     public boolean acceptTicket(CapturedMobTicket ticket) {
         pendingRelease.add(ticket);
         setChanged();
+        syncQueueToClients();
         return true;
     }
 
     /**
      * Registers a MobInput as paired.
      *
-     * @param inputPos The MobInput position
+     * @param inputPos The MobInput position and dimension
      */
-    public void pairInput(BlockPos inputPos) {
+    public void pairInput(GlobalPos inputPos) {
         if (pairedInputs.add(inputPos)) {
             setChanged();
         }
@@ -155,9 +249,9 @@ public class MobOutputBlockEntity extends BlockEntity {
     /**
      * Unregisters a MobInput.
      *
-     * @param inputPos The MobInput position
+     * @param inputPos The MobInput position and dimension
      */
-    public void unpairInput(BlockPos inputPos) {
+    public void unpairInput(GlobalPos inputPos) {
         if (pairedInputs.remove(inputPos)) {
             setChanged();
         }
@@ -174,13 +268,33 @@ public class MobOutputBlockEntity extends BlockEntity {
      * Gets the number of mobs pending release.
      */
     public int getPendingReleaseCount() {
-        return pendingRelease.size();
+        return level != null && level.isClientSide() ? syncedPendingCount : pendingRelease.size();
+    }
+
+    /**
+     * Gets the ticks until the next pending mob is released, or -1 if none are pending.
+     * On the client this is derived from the last synced release tick.
+     *
+     * @param currentTick The current game tick
+     */
+    public long getNextReleaseEta(long currentTick) {
+        if (level != null && level.isClientSide()) {
+            return syncedNextReleaseTick < 0 ? -1 : Math.max(0, syncedNextReleaseTick - currentTick);
+        }
+        return pendingRelease.getNextReleaseEta(currentTick);
+    }
+
+    private void syncQueueToClients() {
+        if (level != null) {
+            BlockState state = getBlockState();
+            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_CLIENTS);
+        }
     }
 
     /**
      * Gets a copy of all paired input positions.
      */
-    public Set<BlockPos> getPairedInputs() {
+    public Set<GlobalPos> getPairedInputs() {
         return new HashSet<>(pairedInputs);
     }
 
@@ -189,23 +303,28 @@ public class MobOutputBlockEntity extends BlockEntity {
      * Releases all pending mobs and notifies paired inputs.
      */
     public void onRemoved() {
-        // Release all pending mobs at this position
+        // Release all pending and in-flight mobs at this position
         if (level != null && !level.isClientSide() && level instanceof ServerLevel serverLevel) {
-            for (CapturedMobTicket ticket : pendingRelease) {
+            for (CapturedMobTicket ticket : pendingRelease.getTickets()) {
                 spawnMob(serverLevel, worldPosition, ticket);
             }
-        }
-        pendingRelease.clear();
+            MobTransportNetwork network = MobTransportNetwork.get(serverLevel.getServer());
+            for (CapturedMobTicket ticket : network.unregisterOutput(GlobalPos.of(level.dimension(), worldPosition))) {
+                spawnMob(serverLevel, worldPosition, ticket);
+            }
+            if (!pendingRelease.isEmpty()) {
+                playEmergenceSound(level, worldPosition);
+            }
 
-        // Unpair all inputs
-        if (level != null) {
-            for (BlockPos inputPos : new HashSet<>(pairedInputs)) {
-                BlockEntity be = level.getBlockEntity(inputPos);
+            // Unpair all loaded inputs; unloaded ones notice when their chunk loads
+            for (GlobalPos inputPos : new HashSet<>(pairedInputs)) {
+                BlockEntity be = MobTransportNetwork.getLoadedBlockEntity(serverLevel.getServer(), inputPos);
                 if (be instanceof MobInputBlockEntity input) {
                     input.unpairOutput();
                 }
             }
         }
+        pendingRelease.clear();
         pairedInputs.clear();
     }
 
@@ -215,8 +334,8 @@ public class MobOutputBlockEntity extends BlockEntity {
     protected void saveAdditional(ValueOutput output) {
         super.saveAdditional(output);
 
-        output.store(KEY_PAIRED_INPUTS, BlockPos.CODEC.listOf(), pairedInputs.stream().toList());
-        output.store(KEY_PENDING, CapturedMobTicket.CODEC.listOf(), pendingRelease);
+        output.store(KEY_PAIRED_INPUTS_GLOBAL, GlobalPos.CODEC.listOf(), pairedInputs.stream().toList());
+        pendingRelease.serialize(output, KEY_PENDING);
     }
 
     @Override
@@ -224,15 +343,26 @@ public class MobOutputBlockEntity extends BlockEntity {
         super.loadAdditional(input);
 
         pairedInputs.clear();
-        input.read(KEY_PAIRED_INPUTS, BlockPos.CODEC.listOf()).ifPresent(pairedInputs::addAll);
+        input.read(KEY_PAIRED_INPUTS_GLOBAL, GlobalPos.CODEC.listOf()).ifPresent(pairedInputs::addAll);
+        legacyPairedInputs.clear();
+        input.read(KEY_PAIRED_INPUTS, BlockPos.CODEC.listOf()).ifPresent(legacyPairedInputs::addAll);
 
-        pendingRelease.clear();
-        input.read(KEY_PENDING, CapturedMobTicket.CODEC.listOf()).ifPresent(pendingRelease::addAll);
+        pendingRelease.deserialize(input, KEY_PENDING);
+        syncedPendingCount = input.getIntOr(KEY_PENDING_COUNT, pendingRelease.size());
+        syncedNextReleaseTick = input.getLongOr(KEY_NEXT_RELEASE, pendingRelease.getNextReadyTick());
     }
 
+    /**
+     * Client sync carries only pairings and a queue summary.
+     * Captured mob data stays on the server.
+     */
     @Override
     public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
-        return saveWithoutMetadata(registries);
+        CompoundTag tag = new CompoundTag();
+        tag.store(KEY_PAIRED_INPUTS_GLOBAL, GlobalPos.CODEC.listOf(), pairedInputs.stream().toList());
+        tag.putInt(KEY_PENDING_COUNT, pendingRelease.size());
+        tag.putLong(KEY_NEXT_RELEASE, pendingRelease.getNextReadyTick());
+        return tag;
     }
 
     @Nullable
@@ -0,0 +1,203 @@
+package net.j40climb.florafauna.common.block.mobtransport;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.saveddata.SavedDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Server-wide registry of MobOutputs and the tickets in flight to them.
+ * <p>
+ * When a MobInput's ticket is ready but its paired output is in an unloaded chunk
+ * (or another dimension that is not loaded there), the ticket is parked here instead
+ * of backing off. The output collects its deliveries when its chunk next loads.
+ * Nothing here loads chunks.
+ * <p>
+ * Stored on the overworld so it is shared across dimensions.
+ */
+public class MobTransportNetwork extends SavedData {
+    private static final String DATA_NAME = "florafauna_mob_transport";
+
+    /**
+     * Tickets in flight to a single output.
+     */
+    private record InFlight(GlobalPos output, List<CapturedMobTicket> tickets) {
+        static final Codec<InFlight> CODEC = RecordCodecBuilder.create(b -> b.group(
+                GlobalPos.CODEC.fieldOf("output").forGetter(InFlight::output),
+                CapturedMobTicket.CODEC.listOf().fieldOf("tickets").forGetter(InFlight::tickets)
+        ).apply(b, InFlight::new));
+    }
+
+    /**
+     * A pairing made while the input's chunk was not loaded.
+     */
+    private record PendingPairing(GlobalPos input, GlobalPos output) {
+        static final Codec<PendingPairing> CODEC = RecordCodecBuilder.create(b -> b.group(
+                GlobalPos.CODEC.fieldOf("input").forGetter(PendingPairing::input),
+                GlobalPos.CODEC.fieldOf("output").forGetter(PendingPairing::output)
+        ).apply(b, PendingPairing::new));
+    }
+
+    private static final Codec<MobTransportNetwork> CODEC = RecordCodecBuilder.create(b -> b.group(
+            GlobalPos.CODEC.listOf().optionalFieldOf("outputs", List.of()).forGetter(n -> List.copyOf(n.outputs)),
+            InFlight.CODEC.listOf().optionalFieldOf("in_flight", List.of()).forGetter(MobTransportNetwork::inFlightList),
+            PendingPairing.CODEC.listOf().optionalFieldOf("pending_pairings", List.of()).forGetter(MobTransportNetwork::pendingPairingList)
+    ).apply(b, MobTransportNetwork::new));
+
+    public static final SavedDataType<MobTransportNetwork> TYPE =
+            new SavedDataType<>(DATA_NAME, MobTransportNetwork::new, CODEC, null);
+
+    // Outputs known to exist, whether or not their chunk is loaded
+    private final Set<GlobalPos> outputs = new HashSet<>();
+
+    // Tickets waiting for their output's chunk to load, in arrival order
+    private final Map<GlobalPos, List<CapturedMobTicket>> inFlight = new LinkedHashMap<>();
+
+    // Input -> output pairings waiting for the input's chunk to load
+    private final Map<GlobalPos, GlobalPos> pendingPairings = new HashMap<>();
+
+    public MobTransportNetwork() {
+    }
+
+    private MobTransportNetwork(List<GlobalPos> outputs, List<InFlight> inFlight, List<PendingPairing> pairings) {
+        this.outputs.addAll(outputs);
+        for (InFlight entry : inFlight) {
+            this.inFlight.put(entry.output(), new ArrayList<>(entry.tickets()));
+        }
+        for (PendingPairing pairing : pairings) {
+            this.pendingPairings.put(pairing.input(), pairing.output());
+        }
+    }
+
+    /**
+     * Gets the network for a server.
+     */
+    public static MobTransportNetwork get(MinecraftServer server) {
+        return server.overworld().getDataStorage().computeIfAbsent(TYPE);
+    }
+
+    /**
+     * Gets the block entity at a position in any dimension, only if its chunk is loaded.
+     *
+     * @return The block entity, or null if the dimension or chunk is not loaded
+     */
+    @Nullable
+    public static BlockEntity getLoadedBlockEntity(MinecraftServer server, GlobalPos pos) {
+        ServerLevel level = server.getLevel(pos.dimension());
+        if (level == null || !level.isLoaded(pos.pos())) {
+            return null;
+        }
+        return level.getBlockEntity(pos.pos());
+    }
+
+    // ==================== OUTPUTS ====================
+
+    /**
+     * Records that an output exists at the given position.
+     */
+    public void registerOutput(GlobalPos output) {
+        if (outputs.add(output)) {
+            setDirty();
+        }
+    }
+
+    /**
+     * Forgets an output, drops pairings still waiting to reach it,
+     * and returns any tickets still in flight to it.
+     *
+     * @param output The removed output
+     * @return Undelivered tickets, in arrival order (empty if none)
+     */
+    public List<CapturedMobTicket> unregisterOutput(GlobalPos output) {
+        boolean changed = outputs.remove(output);
+        changed |= pendingPairings.values().removeIf(output::equals);
+        List<CapturedMobTicket> undelivered = inFlight.remove(output);
+        if (changed || undelivered != null) {
+            setDirty();
+        }
+        return undelivered != null ? undelivered : List.of();
+    }
+
+    /**
+     * Checks if an output is known to exist.
+     */
+    public boolean isOutputRegistered(GlobalPos output) {
+        return outputs.contains(output);
+    }
+
+    // ==================== DELIVERY ====================
+
+    /**
+     * Parks a ticket until its output's chunk is loaded.
+     *
+     * @param output The destination output
+     * @param ticket The ready ticket
+     */
+    public void send(GlobalPos output, CapturedMobTicket ticket) {
+        inFlight.computeIfAbsent(output, k -> new ArrayList<>()).add(ticket);
+        setDirty();
+    }
+
+    /**
+     * Removes and returns all tickets in flight to an output.
+     *
+     * @param output The output collecting its deliveries
+     * @return Tickets in arrival order (empty if none)
+     */
+    public List<CapturedMobTicket> collect(GlobalPos output) {
+        List<CapturedMobTicket> tickets = inFlight.remove(output);
+        if (tickets == null) {
+            return List.of();
+        }
+        setDirty();
+        return tickets;
+    }
+
+    // ==================== PAIRING ====================
+
+    /**
+     * Records a pairing for an input whose chunk is not loaded.
+     * The input completes it when it next loads.
+     */
+    public void requestPairing(GlobalPos input, GlobalPos output) {
+        pendingPairings.put(input, output);
+        setDirty();
+    }
+
+    /**
+     * Removes and returns the pending pairing for an input, if any.
+     */
+    @Nullable
+    public GlobalPos takePendingPairing(GlobalPos input) {
+        GlobalPos output = pendingPairings.remove(input);
+        if (output != null) {
+            setDirty();
+        }
+        return output;
+    }
+
+    private List<PendingPairing> pendingPairingList() {
+        List<PendingPairing> list = new ArrayList<>(pendingPairings.size());
+        pendingPairings.forEach((input, output) -> list.add(new PendingPairing(input, output)));
+        return list;
+    }
+
+    private List<InFlight> inFlightList() {
+        List<InFlight> list = new ArrayList<>(inFlight.size());
+        inFlight.forEach((output, tickets) -> list.add(new InFlight(output, List.copyOf(tickets))));
+        return list;
+    }
+}
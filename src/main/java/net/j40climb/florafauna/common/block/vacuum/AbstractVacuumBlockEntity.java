@@ -34,17 +34,26 @@ import java.util.List;
  *
  * Item Lifecycle: FREE -> CLAIMED -> ABSORBED -> BUFFERED
  *
+ * Claiming is delegated to VacuumCollectorService, which shares one item index
+ * per level across all vacuums.
+ *
  * Subclasses can override behavior or add additional processing phases.
  */
-public abstract class AbstractVacuumBlockEntity extends BlockEntity {
+public abstract class AbstractVacuumBlockEntity extends BlockEntity implements IItemBufferHolder {
     public static final EnumProperty<VacuumState> STATE = EnumProperty.create("state", VacuumState.class);
 
     // Buffer for collected items
     protected final ItemBuffer buffer;
 
+    // Items claimed by this block, ordered by absorb deadline
+    private final ClaimedItemQueue claimedItems = new ClaimedItemQueue();
+
     // Tick cooldowns
     private int collectCooldown = 0;
 
+    // Whether claims made before this block entity was (re)loaded have been recovered
+    private boolean claimsRecovered = false;
+
     protected AbstractVacuumBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState blockState, int bufferCapacity) {
         super(type, pos, blockState);
         this.buffer = new ItemBuffer(bufferCapacity);
@@ -148,7 +157,19 @@ public abstract class AbstractVacuumBlockEntity extends BlockEntity {
     }
 
     /**
-     * Scans for nearby item entities and claims them.
+     * Returns the area in which this block collects items.
+     */
+    protected AABB getCollectArea() {
+        int radius = getCollectRadius();
+        return new AABB(
+                worldPosition.getX() - radius, worldPosition.getY() - radius, worldPosition.getZ() - radius,
+                worldPosition.getX() + radius + 1, worldPosition.getY() + radius + 1, worldPosition.getZ() + radius + 1
+        );
+    }
+
+    /**
+     * Queues a collection request with the level's shared collector service.
+     * Claims are handed out to all requesting vacuums in one pass at the end of the tick.
      */
     protected void tickCollection(Level level, BlockPos pos) {
         collectCooldown--;
@@ -157,50 +178,29 @@ public abstract class AbstractVacuumBlockEntity extends BlockEntity {
         }
         collectCooldown = getCollectInterval();
 
-        // Don't collect if buffer is full
-        if (buffer.isFull()) {
-            return;
-        }
-
-        int radius = getCollectRadius();
-        AABB scanArea = new AABB(
-                pos.getX() - radius, pos.getY() - radius, pos.getZ() - radius,
-                pos.getX() + radius + 1, pos.getY() + radius + 1, pos.getZ() + radius + 1
-        );
-
-        List<ItemEntity> nearbyItems = level.getEntitiesOfClass(ItemEntity.class, scanArea);
-
-        int claimedEntities = 0;
-        int claimedItems = 0;
-
-        for (ItemEntity itemEntity : nearbyItems) {
-            if (claimedEntities >= getMaxEntitiesPerCollect()) {
-                break;
-            }
-            if (claimedItems >= getMaxItemsPerCollect()) {
-                break;
-            }
-
-            // Skip already claimed items
-            ClaimedItemData existingData = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA);
-            if (existingData.claimed()) {
-                continue;
-            }
-
-            // Apply subclass filter
-            if (!shouldCollectItem(itemEntity)) {
-                continue;
-            }
-
-            // Skip items that can't fit in buffer
-            if (!buffer.canAccept(itemEntity.getItem())) {
-                continue;
+        // Requested even when full so claims restored from disk are still handed back
+        if (level instanceof ServerLevel serverLevel) {
+            if (!claimsRecovered) {
+                claimsRecovered = true;
+                recoverClaims(serverLevel);
             }
+            VacuumCollectorService.requestCollection(serverLevel, this);
+        }
+    }
 
-            // Claim the item
-            claimItem(level, itemEntity);
-            claimedEntities++;
-            claimedItems += itemEntity.getItem().getCount();
+    /**
+     * Re-adopts items in the collect area that are still claimed by this block.
+     * Runs once after load: items that stayed loaded while this block's chunk was
+     * unloaded never rejoin the level, so they are not handed back as pending adoptions.
+     */
+    private void recoverClaims(ServerLevel level) {
+        List<ItemEntity> claimed = level.getEntitiesOfClass(ItemEntity.class, getCollectArea(), itemEntity -> {
+            ClaimedItemData claimData = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA);
+            return claimData.claimed() && claimData.vacuumBlockPos().equals(worldPosition);
+        });
+        for (ItemEntity itemEntity : claimed) {
+            adoptClaim(itemEntity, itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA));
+            VacuumCollectorService.onClaimAdopted(level, itemEntity);
         }
     }
 
@@ -219,6 +219,7 @@ public abstract class AbstractVacuumBlockEntity extends BlockEntity {
                 getAnimationDuration()
         );
         itemEntity.setData(FloraFaunaRegistry.CLAIMED_ITEM_DATA, claimData);
+        claimedItems.add(itemEntity.getId(), currentTick + getAnimationDuration());
 
         // Send animation payload to nearby clients
         if (level instanceof ServerLevel serverLevel) {
@@ -231,36 +232,50 @@ public abstract class AbstractVacuumBlockEntity extends BlockEntity {
         }
     }
 
+    /**
+     * Re-registers an item this block claimed before a reload.
+     * Entity IDs are not persistent, so the claim queue must be rebuilt from the attachment.
+     */
+    protected void adoptClaim(ItemEntity itemEntity, ClaimedItemData claimData) {
+        claimedItems.add(itemEntity.getId(), claimData.claimedAtTick() + claimData.animationDuration());
+    }
+
     // ==================== ABSORPTION PHASE ====================
 
     /**
-     * Checks claimed items and absorbs those whose animation has completed.
+     * Absorbs claimed items whose animation has completed.
+     * Only visits claims whose deadline has expired - no world query.
      */
     protected void tickAbsorption(Level level) {
-        int radius = getCollectRadius();
-        AABB scanArea = new AABB(
-                worldPosition.getX() - radius, worldPosition.getY() - radius, worldPosition.getZ() - radius,
-                worldPosition.getX() + radius + 1, worldPosition.getY() + radius + 1, worldPosition.getZ() + radius + 1
-        );
-
-        List<ItemEntity> nearbyItems = level.getEntitiesOfClass(ItemEntity.class, scanArea);
-        long currentTick = level.getGameTime();
-
-        for (ItemEntity itemEntity : nearbyItems) {
-            ClaimedItemData claimData = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA);
-
-            // Only process items claimed by this block
-            if (!claimData.claimed() || !claimData.vacuumBlockPos().equals(worldPosition)) {
-                continue;
-            }
+        if (claimedItems.isEmpty()) {
+            return;
+        }
 
-            // Check if animation is complete
-            if (claimData.isAnimationComplete(currentTick)) {
+        for (ClaimedItemQueue.PendingClaim claim : claimedItems.pollDue(level.getGameTime())) {
+            ItemEntity itemEntity = getClaimedItem(level, claim.entityId());
+            if (itemEntity != null) {
                 absorbItem(itemEntity);
             }
         }
     }
 
+    /**
+     * Resolves a claimed entity ID, returning null if the entity is gone
+     * or is no longer claimed by this block.
+     */
+    @Nullable
+    private ItemEntity getClaimedItem(Level level, int entityId) {
+        if (!(level.getEntity(entityId) instanceof ItemEntity itemEntity) || itemEntity.isRemoved()) {
+            return null;
+        }
+
+        ClaimedItemData claimData = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA);
+        if (!claimData.claimed() || !claimData.vacuumBlockPos().equals(worldPosition)) {
+            return null;
+        }
+        return itemEntity;
+    }
+
     /**
      * Absorbs an item entity into the buffer and removes it from the world.
      */
@@ -318,19 +333,15 @@ public abstract class AbstractVacuumBlockEntity extends BlockEntity {
         }
 
         // Release claimed items
-        int radius = getCollectRadius();
-        AABB scanArea = new AABB(
-                worldPosition.getX() - radius, worldPosition.getY() - radius, worldPosition.getZ() - radius,
-                worldPosition.getX() + radius + 1, worldPosition.getY() + radius + 1, worldPosition.getZ() + radius + 1
-        );
-
-        List<ItemEntity> nearbyItems = level.getEntitiesOfClass(ItemEntity.class, scanArea);
-        for (ItemEntity itemEntity : nearbyItems) {
-            ClaimedItemData claimData = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA);
-            if (claimData.claimed() && claimData.vacuumBlockPos().equals(worldPosition)) {
+        for (ClaimedItemQueue.PendingClaim claim : claimedItems.drainAll()) {
+            ItemEntity itemEntity = getClaimedItem(level, claim.entityId());
+            if (itemEntity != null) {
                 // Reset claim and pickup delay
                 itemEntity.setData(FloraFaunaRegistry.CLAIMED_ITEM_DATA, ClaimedItemData.DEFAULT);
                 itemEntity.setPickUpDelay(0);
+                if (level instanceof ServerLevel serverLevel) {
+                    VacuumCollectorService.onClaimReleased(serverLevel, itemEntity);
+                }
             }
         }
     }
@@ -349,11 +360,12 @@ public abstract class AbstractVacuumBlockEntity extends BlockEntity {
     protected void loadAdditional(ValueInput input) {
         super.loadAdditional(input);
         buffer.deserialize(input);
+        ItemBufferSync.readVersion(input, buffer);
     }
 
     @Override
     public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
-        return saveWithoutMetadata(registries);
+        return ItemBufferSync.writeVersion(saveWithoutMetadata(registries), buffer);
     }
 
     @Nullable
@@ -364,6 +376,7 @@ public abstract class AbstractVacuumBlockEntity extends BlockEntity {
 
     // ==================== ACCESSORS ====================
 
+    @Override
     public ItemBuffer getBuffer() {
         return buffer;
     }
@@ -12,6 +12,9 @@ import net.neoforged.neoforge.event.level.BlockDropsEvent;
  * Event handler that tags item drops from block breaking with BlockDropData.
  * This allows vacuum blocks (like Mining Anchor) to filter and only collect
  * items that originated from breaking blocks.
+ *
+ * Drops are tagged before they join the level, so VacuumCollectorService
+ * indexes them with their BlockDropData already attached.
  */
 @EventBusSubscriber(modid = FloraFauna.MOD_ID)
 public class BlockDropEvents {
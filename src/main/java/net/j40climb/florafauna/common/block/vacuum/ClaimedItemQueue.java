@@ -0,0 +1,83 @@
+package net.j40climb.florafauna.common.block.vacuum;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Per-vacuum registry of claimed item entities, ordered by absorb deadline.
+ * Lets the absorption phase find due items without querying the world.
+ *
+ * Entries are transient: entity IDs are not stable across reloads, so claims
+ * that survive a reload are re-adopted by the collection scan.
+ */
+public class ClaimedItemQueue {
+
+    /**
+     * A claimed item entity and the tick at which it should be absorbed.
+     *
+     * @param entityId Runtime ID of the claimed ItemEntity
+     * @param absorbAtTick Game tick at which the absorption animation completes
+     */
+    public record PendingClaim(int entityId, long absorbAtTick) {}
+
+    private final PriorityQueue<PendingClaim> deadlines =
+            new PriorityQueue<>(Comparator.comparingLong(PendingClaim::absorbAtTick));
+    private final Set<Integer> claimedIds = new HashSet<>();
+
+    /**
+     * Registers a claimed entity. Ignored if the entity is already registered.
+     *
+     * @param entityId Runtime ID of the claimed ItemEntity
+     * @param absorbAtTick Game tick at which the entity should be absorbed
+     * @return true if the entity was newly registered
+     */
+    public boolean add(int entityId, long absorbAtTick) {
+        if (!claimedIds.add(entityId)) {
+            return false;
+        }
+        deadlines.add(new PendingClaim(entityId, absorbAtTick));
+        return true;
+    }
+
+    /**
+     * Removes and returns all claims whose deadline has been reached.
+     *
+     * @param currentTick Current game tick
+     * @return Due claims in deadline order (empty if none are due)
+     */
+    public List<PendingClaim> pollDue(long currentTick) {
+        if (deadlines.isEmpty() || deadlines.peek().absorbAtTick() > currentTick) {
+            return List.of();
+        }
+
+        List<PendingClaim> due = new ArrayList<>();
+        while (!deadlines.isEmpty() && deadlines.peek().absorbAtTick() <= currentTick) {
+            PendingClaim claim = deadlines.poll();
+            claimedIds.remove(claim.entityId());
+            due.add(claim);
+        }
+        return due;
+    }
+
+    /**
+     * Removes and returns all registered claims regardless of deadline.
+     * Used when the owning vacuum is removed and its claims must be released.
+     */
+    public List<PendingClaim> drainAll() {
+        List<PendingClaim> all = new ArrayList<>(deadlines);
+        deadlines.clear();
+        claimedIds.clear();
+        return all;
+    }
+
+    /**
+     * Returns true if no claims are registered.
+     */
+    public boolean isEmpty() {
+        return deadlines.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package net.j40climb.florafauna.common.block.vacuum;
+
+/**
+ * Implemented by block entities whose ItemBuffer is synced to clients with
+ * slot deltas (see ItemBufferSync).
+ */
+public interface IItemBufferHolder {
+
+    /**
+     * Gets the buffer mirrored to clients.
+     */
+    ItemBuffer getBuffer();
+}
@@ -5,9 +5,18 @@ import net.minecraft.core.NonNullList;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
+import net.neoforged.neoforge.transfer.item.ItemResource;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
 
 /**
  * A buffer for temporarily storing items.
@@ -17,11 +26,40 @@ import java.util.List;
  * - Items are merged with existing stacks when possible
  * - Never voids items (canAccept checks first)
  * - Provides FIFO-style poll for transfer
+ *
+ * All queries are constant time: the buffer keeps a running item total,
+ * a free list of empty slots, a cursor to the first non-empty slot, and an
+ * index of partially filled slots per item+components key. Prefer
+ * setStack/growStack/shrinkStack for slot changes. Stacks handed out by
+ * getStack and peek are live; each slot handed out is re-checked on the next
+ * buffer call, so changing one in place is picked up then. Do not hold such a
+ * stack across other buffer calls. getStacks returns copies.
  */
 public class ItemBuffer implements IItemBuffer {
     private final NonNullList<ItemStack> stacks;
     private final int maxStacks;
 
+    // Incremental bookkeeping (derived from stacks, never serialized)
+    private final BitSet emptySlots;
+    // Count and item+components key each slot was indexed with, so unindexing never trusts a mutated stack
+    private final int[] indexedCounts;
+    private final ItemResource[] indexedKeys;
+    // Slots whose live stack was handed out since the last reconcile
+    private final BitSet lentSlots = new BitSet();
+    private final Map<ItemResource, TreeSet<Integer>> partialSlots = new HashMap<>();
+    private int partialSlotCount = 0;
+    private int usedSlots = 0;
+    private int totalItems = 0;
+    private int firstNonEmptySlot = -1;
+
+    // Notified with the item count delta whenever the total changes
+    @Nullable
+    private IntConsumer countListener;
+
+    // Client sync state: slots changed since the last delta, and the delta version
+    private final BitSet changedSlots = new BitSet();
+    private int syncVersion = 0;
+
     /**
      * Creates a new buffer with the specified capacity.
      *
@@ -30,6 +68,10 @@ public class ItemBuffer implements IItemBuffer {
     public ItemBuffer(int maxStacks) {
         this.maxStacks = maxStacks;
         this.stacks = NonNullList.withSize(maxStacks, ItemStack.EMPTY);
+        this.emptySlots = new BitSet(maxStacks);
+        this.emptySlots.set(0, maxStacks);
+        this.indexedCounts = new int[maxStacks];
+        this.indexedKeys = new ItemResource[maxStacks];
     }
 
     /**
@@ -51,19 +93,12 @@ public class ItemBuffer implements IItemBuffer {
         if (stack.isEmpty()) {
             return false;
         }
-
-        // Check if we can merge with existing stacks
-        for (ItemStack existing : stacks) {
-            if (existing.isEmpty()) {
-                return true; // Found empty slot
-            }
-            if (ItemStack.isSameItemSameComponents(existing, stack)) {
-                if (existing.getCount() < existing.getMaxStackSize()) {
-                    return true; // Can merge
-                }
-            }
+        reconcileLentSlots();
+        if (!emptySlots.isEmpty()) {
+            return true; // Found empty slot
         }
-        return false;
+        TreeSet<Integer> partial = partialSlots.get(ItemResource.of(stack));
+        return partial != null && !partial.isEmpty(); // Can merge
     }
 
     /**
@@ -79,28 +114,30 @@ public class ItemBuffer implements IItemBuffer {
             return 0;
         }
 
+        reconcileLentSlots();
         int originalCount = stack.getCount();
+        ItemResource key = ItemResource.of(stack);
 
-        // First pass: try to merge with existing stacks
-        for (int i = 0; i < stacks.size() && !stack.isEmpty(); i++) {
-            ItemStack existing = stacks.get(i);
-            if (!existing.isEmpty() && ItemStack.isSameItemSameComponents(existing, stack)) {
-                int space = existing.getMaxStackSize() - existing.getCount();
-                if (space > 0) {
-                    int toAdd = Math.min(space, stack.getCount());
-                    existing.grow(toAdd);
-                    stack.shrink(toAdd);
-                }
-            }
+        // First pass: merge into partially filled stacks of the same item (lowest slot first)
+        TreeSet<Integer> partial = partialSlots.get(key);
+        while (partial != null && !partial.isEmpty() && !stack.isEmpty()) {
+            int slot = partial.first();
+            ItemStack existing = stacks.get(slot);
+            int toAdd = Math.min(existing.getMaxStackSize() - existing.getCount(), stack.getCount());
+            growStack(slot, toAdd);
+            stack.shrink(toAdd);
+            partial = partialSlots.get(key);
         }
 
         // Second pass: add to empty slots
-        for (int i = 0; i < stacks.size() && !stack.isEmpty(); i++) {
-            if (stacks.get(i).isEmpty()) {
-                int toAdd = Math.min(stack.getMaxStackSize(), stack.getCount());
-                stacks.set(i, stack.copyWithCount(toAdd));
-                stack.shrink(toAdd);
+        while (!stack.isEmpty()) {
+            int slot = emptySlots.nextSetBit(0);
+            if (slot < 0) {
+                break;
             }
+            int toAdd = Math.min(stack.getMaxStackSize(), stack.getCount());
+            setStack(slot, stack.copyWithCount(toAdd));
+            stack.shrink(toAdd);
         }
 
         return originalCount - stack.getCount();
@@ -113,14 +150,14 @@ public class ItemBuffer implements IItemBuffer {
      */
     @Override
     public ItemStack poll() {
-        for (int i = 0; i < stacks.size(); i++) {
-            ItemStack stack = stacks.get(i);
-            if (!stack.isEmpty()) {
-                stacks.set(i, ItemStack.EMPTY);
-                return stack;
-            }
+        reconcileLentSlots();
+        if (firstNonEmptySlot < 0) {
+            return ItemStack.EMPTY;
         }
-        return ItemStack.EMPTY;
+        int slot = firstNonEmptySlot;
+        ItemStack stack = stacks.get(slot);
+        setStack(slot, ItemStack.EMPTY);
+        return stack;
     }
 
     /**
@@ -130,33 +167,32 @@ public class ItemBuffer implements IItemBuffer {
      */
     @Override
     public ItemStack peek() {
-        for (ItemStack stack : stacks) {
-            if (!stack.isEmpty()) {
-                return stack;
-            }
+        reconcileLentSlots();
+        if (firstNonEmptySlot < 0) {
+            return ItemStack.EMPTY;
         }
-        return ItemStack.EMPTY;
+        lentSlots.set(firstNonEmptySlot);
+        return stacks.get(firstNonEmptySlot);
     }
 
     /**
      * Returns the index of the first non-empty slot, or -1 if empty.
      */
     public int getFirstNonEmptySlot() {
-        for (int i = 0; i < stacks.size(); i++) {
-            if (!stacks.get(i).isEmpty()) {
-                return i;
-            }
-        }
-        return -1;
+        reconcileLentSlots();
+        return firstNonEmptySlot;
     }
 
     /**
-     * Gets a stack at the specified index.
+     * Gets the live stack at the specified index.
+     * In-place changes to it are picked up by the next buffer call.
      */
     public ItemStack getStack(int index) {
         if (index < 0 || index >= stacks.size()) {
             return ItemStack.EMPTY;
         }
+        reconcileLentSlots();
+        lentSlots.set(index);
         return stacks.get(index);
     }
 
@@ -165,8 +201,59 @@ public class ItemBuffer implements IItemBuffer {
      */
     public void setStack(int index, ItemStack stack) {
         if (index >= 0 && index < stacks.size()) {
+            reconcileLentSlots();
+            int before = totalItems;
+            unindexSlot(index);
             stacks.set(index, stack);
+            indexSlot(index);
+            changedSlots.set(index);
+            fireCountChanged(before);
+        }
+    }
+
+    /**
+     * Grows the stack at the specified index in place.
+     *
+     * @param index Slot index (must hold a non-empty stack)
+     * @param amount Number of items to add
+     */
+    public void growStack(int index, int amount) {
+        if (index < 0 || index >= stacks.size() || amount <= 0) {
+            return;
         }
+        reconcileLentSlots();
+        if (stacks.get(index).isEmpty()) {
+            return;
+        }
+        int before = totalItems;
+        unindexSlot(index);
+        stacks.get(index).grow(amount);
+        indexSlot(index);
+        changedSlots.set(index);
+        fireCountChanged(before);
+    }
+
+    /**
+     * Shrinks the stack at the specified index in place, emptying the slot if it reaches zero.
+     *
+     * @param index Slot index
+     * @param amount Number of items to remove
+     */
+    public void shrinkStack(int index, int amount) {
+        if (index < 0 || index >= stacks.size() || amount <= 0) {
+            return;
+        }
+        reconcileLentSlots();
+        ItemStack stack = stacks.get(index);
+        if (stack.isEmpty()) {
+            return;
+        }
+        int before = totalItems;
+        unindexSlot(index);
+        stack.shrink(amount);
+        indexSlot(index);
+        changedSlots.set(index);
+        fireCountChanged(before);
     }
 
     /**
@@ -174,15 +261,8 @@ public class ItemBuffer implements IItemBuffer {
      */
     @Override
     public boolean isFull() {
-        for (ItemStack stack : stacks) {
-            if (stack.isEmpty()) {
-                return false;
-            }
-            if (stack.getCount() < stack.getMaxStackSize()) {
-                return false;
-            }
-        }
-        return true;
+        reconcileLentSlots();
+        return emptySlots.isEmpty() && partialSlotCount == 0;
     }
 
     /**
@@ -190,25 +270,16 @@ public class ItemBuffer implements IItemBuffer {
      */
     @Override
     public boolean isEmpty() {
-        for (ItemStack stack : stacks) {
-            if (!stack.isEmpty()) {
-                return false;
-            }
-        }
-        return true;
+        reconcileLentSlots();
+        return usedSlots == 0;
     }
 
     /**
      * Returns the number of non-empty slots.
      */
     public int getUsedSlots() {
-        int count = 0;
-        for (ItemStack stack : stacks) {
-            if (!stack.isEmpty()) {
-                count++;
-            }
-        }
-        return count;
+        reconcileLentSlots();
+        return usedSlots;
     }
 
     /**
@@ -216,11 +287,8 @@ public class ItemBuffer implements IItemBuffer {
      */
     @Override
     public int getTotalItemCount() {
-        int count = 0;
-        for (ItemStack stack : stacks) {
-            count += stack.getCount();
-        }
-        return count;
+        reconcileLentSlots();
+        return totalItems;
     }
 
     /**
@@ -250,9 +318,21 @@ public class ItemBuffer implements IItemBuffer {
      */
     @Override
     public void clear() {
+        reconcileLentSlots();
+        int before = totalItems;
         for (int i = 0; i < stacks.size(); i++) {
             stacks.set(i, ItemStack.EMPTY);
         }
+        Arrays.fill(indexedCounts, 0);
+        Arrays.fill(indexedKeys, null);
+        emptySlots.set(0, maxStacks);
+        partialSlots.clear();
+        partialSlotCount = 0;
+        usedSlots = 0;
+        totalItems = 0;
+        firstNonEmptySlot = -1;
+        changedSlots.set(0, maxStacks);
+        fireCountChanged(before);
     }
 
     /**
@@ -269,11 +349,140 @@ public class ItemBuffer implements IItemBuffer {
     }
 
     /**
-     * Returns the internal stacks list for capability registration.
-     * Changes to this list will be reflected in the buffer.
+     * Returns a read-only copy of all slots, including empty ones.
+     * Change slots through setStack, growStack and shrinkStack.
+     */
+    public List<ItemStack> getStacks() {
+        List<ItemStack> copies = new ArrayList<>(stacks.size());
+        for (ItemStack stack : stacks) {
+            copies.add(stack.copy());
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * Sets a listener notified with the item count delta whenever the total changes.
+     * Not notified while loading from disk.
+     */
+    public void setCountListener(@Nullable IntConsumer listener) {
+        this.countListener = listener;
+    }
+
+    // ==================== CLIENT SYNC ====================
+
+    /**
+     * Returns true if any slot changed since the last call to takeChangedSlots.
+     */
+    public boolean hasChangedSlots() {
+        reconcileLentSlots();
+        return !changedSlots.isEmpty();
+    }
+
+    /**
+     * Returns the slots changed since the last call and resets the change set.
+     */
+    public int[] takeChangedSlots() {
+        reconcileLentSlots();
+        int[] slots = changedSlots.stream().toArray();
+        changedSlots.clear();
+        return slots;
+    }
+
+    /**
+     * Returns the version of the last delta sent (server) or applied (client).
+     */
+    public int getSyncVersion() {
+        return syncVersion;
+    }
+
+    /**
+     * Sets the sync version. Used by the client when it receives a full update.
+     */
+    public void setSyncVersion(int syncVersion) {
+        this.syncVersion = syncVersion;
+    }
+
+    // ==================== BOOKKEEPING ====================
+
+    private void fireCountChanged(int before) {
+        if (countListener != null && totalItems != before) {
+            countListener.accept(totalItems - before);
+        }
+    }
+
+    /**
+     * Re-indexes slots whose live stack was handed out and has since changed count, item or components.
      */
-    public NonNullList<ItemStack> getStacks() {
-        return stacks;
+    private void reconcileLentSlots() {
+        if (lentSlots.isEmpty()) {
+            return;
+        }
+        for (int slot = lentSlots.nextSetBit(0); slot >= 0; slot = lentSlots.nextSetBit(slot + 1)) {
+            ItemStack stack = stacks.get(slot);
+            if (stack.getCount() != indexedCounts[slot]
+                    || (!stack.isEmpty() && !ItemResource.of(stack).equals(indexedKeys[slot]))) {
+                int before = totalItems;
+                unindexSlot(slot);
+                indexSlot(slot);
+                changedSlots.set(slot);
+                fireCountChanged(before);
+            }
+        }
+        lentSlots.clear();
+    }
+
+    /**
+     * Removes a slot from the bookkeeping, using the state it was indexed with.
+     * Must be paired with indexSlot after the slot is changed.
+     */
+    private void unindexSlot(int index) {
+        int count = indexedCounts[index];
+        if (count == 0) {
+            emptySlots.clear(index);
+            return;
+        }
+
+        usedSlots--;
+        totalItems -= count;
+        ItemResource key = indexedKeys[index];
+        TreeSet<Integer> partial = partialSlots.get(key);
+        if (partial != null && partial.remove(index)) {
+            partialSlotCount--;
+            if (partial.isEmpty()) {
+                partialSlots.remove(key);
+            }
+        }
+        indexedKeys[index] = null;
+        indexedCounts[index] = 0;
+    }
+
+    /**
+     * Adds a slot's current contents to the bookkeeping.
+     */
+    private void indexSlot(int index) {
+        ItemStack stack = stacks.get(index);
+        if (stack.isEmpty()) {
+            stacks.set(index, ItemStack.EMPTY);
+            emptySlots.set(index);
+            if (index == firstNonEmptySlot) {
+                int next = emptySlots.nextClearBit(index + 1);
+                firstNonEmptySlot = next < maxStacks ? next : -1;
+            }
+            return;
+        }
+
+        usedSlots++;
+        totalItems += stack.getCount();
+        indexedCounts[index] = stack.getCount();
+        ItemResource key = ItemResource.of(stack);
+        indexedKeys[index] = key;
+        if (firstNonEmptySlot < 0 || index < firstNonEmptySlot) {
+            firstNonEmptySlot = index;
+        }
+        if (stack.getCount() < stack.getMaxStackSize()) {
+            partialSlots.computeIfAbsent(key, k -> new TreeSet<>()).add(index);
+            partialSlotCount++;
+        }
     }
 
     // ==================== SERIALIZATION ====================
@@ -284,6 +493,7 @@ public class ItemBuffer implements IItemBuffer {
      * Saves the buffer contents using ValueOutput.
      */
     public void serialize(ValueOutput output) {
+        reconcileLentSlots();
         output.store(KEY_ITEMS, ItemStack.OPTIONAL_CODEC.listOf(), stacks.stream().toList());
     }
 
@@ -291,10 +501,14 @@ public class ItemBuffer implements IItemBuffer {
      * Loads buffer contents using ValueInput.
      */
     public void deserialize(ValueInput input) {
+        IntConsumer listener = countListener;
+        countListener = null;
         clear();
         List<ItemStack> loaded = input.read(KEY_ITEMS, ItemStack.OPTIONAL_CODEC.listOf()).orElse(List.of());
         for (int i = 0; i < Math.min(loaded.size(), stacks.size()); i++) {
-            stacks.set(i, loaded.get(i));
+            setStack(i, loaded.get(i));
         }
+        changedSlots.clear();
+        countListener = listener;
     }
 }
@@ -0,0 +1,115 @@
+package net.j40climb.florafauna.common.block.vacuum;
+
+import net.j40climb.florafauna.common.block.vacuum.networking.ItemBufferDeltaPayload;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.storage.ValueInput;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync of ItemBuffer contents to clients.
+ *
+ * Full contents still go out through the block entity update tag (chunk load,
+ * resync requests), stamped with the buffer's sync version. After that, changes
+ * are sent as ItemBufferDeltaPayloads holding only the changed slots. A client
+ * whose version doesn't match a delta's base version requests a full resync.
+ */
+public final class ItemBufferSync {
+    public static final String KEY_SYNC_VERSION = "buffer_sync_version";
+
+    // Resync requests for blocks further away than this are ignored
+    private static final double MAX_RESYNC_DISTANCE_SQR = 256 * 256;
+
+    private ItemBufferSync() {} // Utility class
+
+    /**
+     * Sends the slots changed since the last delta to players tracking the chunk.
+     * Does nothing if no slot changed.
+     */
+    public static void broadcastChanges(ServerLevel level, BlockPos pos, ItemBuffer buffer) {
+        if (!buffer.hasChangedSlots()) {
+            return;
+        }
+
+        List<ItemBufferDeltaPayload.SlotUpdate> updates = new ArrayList<>();
+        for (int slot : buffer.takeChangedSlots()) {
+            // Copy - payloads are not serialized on integrated servers
+            updates.add(new ItemBufferDeltaPayload.SlotUpdate(slot, buffer.getStack(slot).copy()));
+        }
+
+        int baseVersion = buffer.getSyncVersion();
+        int version = baseVersion + 1;
+        buffer.setSyncVersion(version);
+
+        PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(pos),
+                new ItemBufferDeltaPayload(pos, baseVersion, version, updates));
+    }
+
+    /**
+     * Stamps a full update tag with the buffer's current sync version.
+     */
+    public static CompoundTag writeVersion(CompoundTag tag, ItemBuffer buffer) {
+        tag.putInt(KEY_SYNC_VERSION, buffer.getSyncVersion());
+        return tag;
+    }
+
+    /**
+     * Reads the sync version from a full update. Absent when loading from disk.
+     */
+    public static void readVersion(ValueInput input, ItemBuffer buffer) {
+        input.getInt(KEY_SYNC_VERSION).ifPresent(buffer::setSyncVersion);
+    }
+
+    // ==================== PAYLOAD HANDLING ====================
+
+    /**
+     * Client side: applies a delta if the local buffer is at the delta's base version.
+     *
+     * @return false if the local buffer is out of date and needs a full resync
+     */
+    public static boolean applyDelta(Level level, ItemBufferDeltaPayload payload) {
+        if (!level.isLoaded(payload.pos())
+                || !(level.getBlockEntity(payload.pos()) instanceof IItemBufferHolder holder)) {
+            return true; // Chunk not loaded yet - its full update carries the contents
+        }
+
+        ItemBuffer buffer = holder.getBuffer();
+        if (buffer.getSyncVersion() != payload.baseVersion()) {
+            return false;
+        }
+
+        for (ItemBufferDeltaPayload.SlotUpdate update : payload.slots()) {
+            buffer.setStack(update.slot(), update.stack());
+        }
+        buffer.setSyncVersion(payload.version());
+        return true;
+    }
+
+    /**
+     * Server side: sends the full update packet of a synced buffer to one player.
+     */
+    public static void sendFullUpdate(ServerPlayer player, BlockPos pos) {
+        Level level = player.level();
+        if (!level.isLoaded(pos) || player.blockPosition().distSqr(pos) > MAX_RESYNC_DISTANCE_SQR) {
+            return;
+        }
+
+        BlockEntity be = level.getBlockEntity(pos);
+        if (be instanceof IItemBufferHolder) {
+            Packet<ClientGamePacketListener> packet = be.getUpdatePacket();
+            if (packet != null) {
+                player.connection.send(packet);
+            }
+        }
+    }
+}
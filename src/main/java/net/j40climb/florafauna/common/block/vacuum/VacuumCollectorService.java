@@ -0,0 +1,353 @@
+package net.j40climb.florafauna.common.block.vacuum;
+
+import net.j40climb.florafauna.FloraFauna;
+import net.j40climb.florafauna.setup.FloraFaunaRegistry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Level-scoped collection service shared by all vacuum-type blocks.
+ *
+ * Keeps one index of unclaimed item entities per chunk section, maintained from
+ * entity join/leave and section-crossing events instead of per-vacuum world
+ * queries, so nothing is swept per tick. Vacuums whose
+ * collection cooldown has elapsed queue a request; once per level tick the
+ * service hands out claims round-robin across all requests, so overlapping
+ * vacuums share nearby drops fairly and cost scales with dropped items rather
+ * than vacuums × scan volume.
+ *
+ * Claimed items that are loaded from disk (entity IDs are not persistent) are
+ * held as pending adoptions until their owning vacuum next requests collection.
+ * A vacuum that reloads while its claimed items stay loaded recovers them itself
+ * with one area query on its first collection.
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public class VacuumCollectorService {
+
+    /** Ticks an orphaned claim waits for its vacuum before being released */
+    private static final int ORPHAN_TIMEOUT_TICKS = 200;
+
+    private static final Map<ResourceKey<Level>, LevelIndex> INDEXES = new HashMap<>();
+
+    private VacuumCollectorService() {} // Utility class
+
+    // ==================== VACUUM API ====================
+
+    /**
+     * Queues a collection request for this tick.
+     * Called by vacuums when their collection cooldown elapses.
+     */
+    public static void requestCollection(ServerLevel level, AbstractVacuumBlockEntity vacuum) {
+        getIndex(level).requests.add(vacuum);
+    }
+
+    /**
+     * Returns a released item to the unclaimed index so other vacuums can claim it.
+     */
+    public static void onClaimReleased(ServerLevel level, ItemEntity itemEntity) {
+        getIndex(level).addUnclaimed(itemEntity);
+    }
+
+    /**
+     * Drops a pending adoption that its vacuum has already taken back.
+     */
+    public static void onClaimAdopted(ServerLevel level, ItemEntity itemEntity) {
+        LevelIndex index = INDEXES.get(level.dimension());
+        if (index != null) {
+            index.pendingAdoptions.remove(itemEntity);
+        }
+    }
+
+    private static LevelIndex getIndex(ServerLevel level) {
+        return INDEXES.computeIfAbsent(level.dimension(), key -> new LevelIndex());
+    }
+
+    // ==================== EVENTS ====================
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel) || !(event.getEntity() instanceof ItemEntity itemEntity)) {
+            return;
+        }
+
+        ClaimedItemData claimData = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA);
+        if (claimData.claimed()) {
+            // Claim survived a reload - hand back to its vacuum on its next request
+            getIndex(serverLevel).pendingAdoptions.put(itemEntity, serverLevel.getGameTime());
+        } else {
+            getIndex(serverLevel).addUnclaimed(itemEntity);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel) || !(event.getEntity() instanceof ItemEntity itemEntity)) {
+            return;
+        }
+
+        LevelIndex index = INDEXES.get(serverLevel.dimension());
+        if (index != null) {
+            index.remove(itemEntity);
+            index.pendingAdoptions.remove(itemEntity);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (!(event.getEntity() instanceof ItemEntity itemEntity) || !(itemEntity.level() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
+        LevelIndex index = INDEXES.get(serverLevel.dimension());
+        if (index != null) {
+            index.move(itemEntity, event.getPackedNewPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
+        LevelIndex index = INDEXES.get(serverLevel.dimension());
+        if (index == null) {
+            return;
+        }
+
+        long currentTick = serverLevel.getGameTime();
+        if (!index.pendingAdoptions.isEmpty()) {
+            index.releaseOrphans(serverLevel, currentTick);
+        }
+        if (!index.requests.isEmpty()) {
+            index.processRequests(serverLevel, currentTick);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            INDEXES.remove(serverLevel.dimension());
+        }
+    }
+
+    // ==================== PER-LEVEL INDEX ====================
+
+    /**
+     * Unclaimed item entities bucketed by chunk section, plus this tick's requests.
+     */
+    private static class LevelIndex {
+        private final Map<Long, Set<ItemEntity>> itemsBySection = new HashMap<>();
+        private final Map<ItemEntity, Long> sectionByItem = new HashMap<>();
+        private final Map<ItemEntity, Long> pendingAdoptions = new LinkedHashMap<>();
+        private final Set<AbstractVacuumBlockEntity> requests = new LinkedHashSet<>();
+
+        void addUnclaimed(ItemEntity itemEntity) {
+            if (itemEntity.isRemoved() || sectionByItem.containsKey(itemEntity)) {
+                return;
+            }
+            long section = SectionPos.asLong(itemEntity.blockPosition());
+            sectionByItem.put(itemEntity, section);
+            itemsBySection.computeIfAbsent(section, key -> new LinkedHashSet<>()).add(itemEntity);
+        }
+
+        void remove(ItemEntity itemEntity) {
+            Long section = sectionByItem.remove(itemEntity);
+            if (section != null) {
+                removeFromSection(section, itemEntity);
+            }
+        }
+
+        private void removeFromSection(long section, ItemEntity itemEntity) {
+            Set<ItemEntity> bucket = itemsBySection.get(section);
+            if (bucket != null) {
+                bucket.remove(itemEntity);
+                if (bucket.isEmpty()) {
+                    itemsBySection.remove(section);
+                }
+            }
+        }
+
+        /**
+         * Moves an indexed item to the section it just entered. Claimed items are not indexed and are ignored.
+         */
+        void move(ItemEntity itemEntity, long newSection) {
+            Long section = sectionByItem.get(itemEntity);
+            if (section == null || section == newSection) {
+                return;
+            }
+            removeFromSection(section, itemEntity);
+            sectionByItem.put(itemEntity, newSection);
+            itemsBySection.computeIfAbsent(newSection, key -> new LinkedHashSet<>()).add(itemEntity);
+        }
+
+        /**
+         * Hands pending adoptions to their vacuums, then claims items round-robin
+         * across all requesting vacuums until every budget or candidate list is spent.
+         */
+        void processRequests(ServerLevel level, long currentTick) {
+            List<AbstractVacuumBlockEntity> vacuums = new ArrayList<>(requests);
+            requests.clear();
+
+            if (!pendingAdoptions.isEmpty()) {
+                for (AbstractVacuumBlockEntity vacuum : vacuums) {
+                    adoptClaims(vacuum);
+                }
+            }
+
+            if (sectionByItem.isEmpty()) {
+                return;
+            }
+
+            // Rotate the starting vacuum each tick so no position is always first
+            List<CollectionRound> rounds = new ArrayList<>();
+            int offset = (int) Math.floorMod(currentTick, (long) vacuums.size());
+            for (int i = 0; i < vacuums.size(); i++) {
+                AbstractVacuumBlockEntity vacuum = vacuums.get((i + offset) % vacuums.size());
+                if (!vacuum.isRemoved() && !vacuum.getBuffer().isFull()) {
+                    rounds.add(new CollectionRound(vacuum, gatherCandidates(vacuum.getCollectArea())));
+                }
+            }
+
+            while (!rounds.isEmpty()) {
+                Iterator<CollectionRound> iterator = rounds.iterator();
+                while (iterator.hasNext()) {
+                    CollectionRound round = iterator.next();
+                    ItemEntity itemEntity = round.nextClaimable();
+                    if (itemEntity == null) {
+                        iterator.remove();
+                        continue;
+                    }
+                    round.vacuum.claimItem(level, itemEntity);
+                    round.claimed(itemEntity.getItem().getCount());
+                    remove(itemEntity);
+                }
+            }
+        }
+
+        private void adoptClaims(AbstractVacuumBlockEntity vacuum) {
+            Iterator<ItemEntity> iterator = pendingAdoptions.keySet().iterator();
+            while (iterator.hasNext()) {
+                ItemEntity itemEntity = iterator.next();
+                ClaimedItemData claimData = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA);
+                if (claimData.vacuumBlockPos().equals(vacuum.getBlockPos())) {
+                    vacuum.adoptClaim(itemEntity, claimData);
+                    iterator.remove();
+                }
+            }
+        }
+
+        /**
+         * Releases claims whose vacuum no longer exists, so they become collectable again.
+         */
+        void releaseOrphans(ServerLevel level, long currentTick) {
+            Iterator<Map.Entry<ItemEntity, Long>> iterator = pendingAdoptions.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<ItemEntity, Long> entry = iterator.next();
+                if (currentTick - entry.getValue() < ORPHAN_TIMEOUT_TICKS) {
+                    continue;
+                }
+
+                ItemEntity itemEntity = entry.getKey();
+                BlockPos ownerPos = itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA).vacuumBlockPos();
+                if (level.isLoaded(ownerPos) && level.getBlockEntity(ownerPos) instanceof AbstractVacuumBlockEntity) {
+                    continue; // Owner exists but has not ticked yet; keep waiting
+                }
+
+                iterator.remove();
+                itemEntity.setData(FloraFaunaRegistry.CLAIMED_ITEM_DATA, ClaimedItemData.DEFAULT);
+                itemEntity.setPickUpDelay(0);
+                addUnclaimed(itemEntity);
+            }
+        }
+
+        private List<ItemEntity> gatherCandidates(AABB area) {
+            List<ItemEntity> candidates = new ArrayList<>();
+            int minX = SectionPos.blockToSectionCoord(area.minX);
+            int minY = SectionPos.blockToSectionCoord(area.minY);
+            int minZ = SectionPos.blockToSectionCoord(area.minZ);
+            int maxX = SectionPos.blockToSectionCoord(area.maxX);
+            int maxY = SectionPos.blockToSectionCoord(area.maxY);
+            int maxZ = SectionPos.blockToSectionCoord(area.maxZ);
+
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        Set<ItemEntity> bucket = itemsBySection.get(SectionPos.asLong(x, y, z));
+                        if (bucket == null) {
+                            continue;
+                        }
+                        for (ItemEntity itemEntity : bucket) {
+                            if (itemEntity.getBoundingBox().intersects(area)) {
+                                candidates.add(itemEntity);
+                            }
+                        }
+                    }
+                }
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * One vacuum's share of this tick's collection pass, with its per-cycle budget.
+     */
+    private static class CollectionRound {
+        private final AbstractVacuumBlockEntity vacuum;
+        private final List<ItemEntity> candidates;
+        private int cursor = 0;
+        private int claimedEntities = 0;
+        private int claimedItems = 0;
+
+        CollectionRound(AbstractVacuumBlockEntity vacuum, List<ItemEntity> candidates) {
+            this.vacuum = vacuum;
+            this.candidates = candidates;
+        }
+
+        /**
+         * Returns the next candidate this vacuum may claim, or null when the
+         * budget is spent or no candidates remain.
+         */
+        ItemEntity nextClaimable() {
+            if (claimedEntities >= vacuum.getMaxEntitiesPerCollect() || claimedItems >= vacuum.getMaxItemsPerCollect()) {
+                return null;
+            }
+            while (cursor < candidates.size()) {
+                ItemEntity itemEntity = candidates.get(cursor++);
+                if (itemEntity.isRemoved() || itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA).claimed()) {
+                    continue; // Taken by an earlier vacuum this pass
+                }
+                if (vacuum.shouldCollectItem(itemEntity) && vacuum.getBuffer().canAccept(itemEntity.getItem())) {
+                    return itemEntity;
+                }
+            }
+            return null;
+        }
+
+        void claimed(int itemCount) {
+            claimedEntities++;
+            claimedItems += itemCount;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package net.j40climb.florafauna.common.block.vacuum.networking;
+
+import net.j40climb.florafauna.FloraFauna;
+import net.j40climb.florafauna.common.block.vacuum.ItemBufferSync;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.client.network.ClientPacketDistributor;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+import java.util.List;
+
+/**
+ * Server -> Client payload carrying only the buffer slots that changed since the last delta.
+ * The client applies it only if its buffer is at baseVersion, otherwise it requests a full resync.
+ *
+ * @param pos Position of the block entity holding the buffer
+ * @param baseVersion Version the client must be at to apply this delta
+ * @param version Version after applying this delta
+ * @param slots Changed slots with their new contents (EMPTY for cleared slots)
+ */
+public record ItemBufferDeltaPayload(
+        BlockPos pos,
+        int baseVersion,
+        int version,
+        List<SlotUpdate> slots
+) implements CustomPacketPayload {
+
+    /**
+     * New contents of a single buffer slot.
+     */
+    public record SlotUpdate(int slot, ItemStack stack) {
+        public static final StreamCodec<RegistryFriendlyByteBuf, SlotUpdate> STREAM_CODEC = StreamCodec.composite(
+                ByteBufCodecs.VAR_INT, SlotUpdate::slot,
+                ItemStack.OPTIONAL_STREAM_CODEC, SlotUpdate::stack,
+                SlotUpdate::new
+        );
+    }
+
+    public static final Type<ItemBufferDeltaPayload> TYPE =
+            new Type<>(Identifier.fromNamespaceAndPath(FloraFauna.MOD_ID, "item_buffer_delta"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, ItemBufferDeltaPayload> STREAM_CODEC = StreamCodec.composite(
+            BlockPos.STREAM_CODEC, ItemBufferDeltaPayload::pos,
+            ByteBufCodecs.VAR_INT, ItemBufferDeltaPayload::baseVersion,
+            ByteBufCodecs.VAR_INT, ItemBufferDeltaPayload::version,
+            SlotUpdate.STREAM_CODEC.apply(ByteBufCodecs.list()), ItemBufferDeltaPayload::slots,
+            ItemBufferDeltaPayload::new
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    /**
+     * Client-side handler: applies the delta or asks for a full resync.
+     */
+    public static void onClientReceived(ItemBufferDeltaPayload payload, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (!ItemBufferSync.applyDelta(context.player().level(), payload)) {
+                ClientPacketDistributor.sendToServer(new ItemBufferResyncPayload(payload.pos()));
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package net.j40climb.florafauna.common.block.vacuum.networking;
+
+import io.netty.buffer.ByteBuf;
+import net.j40climb.florafauna.FloraFauna;
+import net.j40climb.florafauna.common.block.vacuum.ItemBufferSync;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Client -> Server request for the full contents of a synced buffer.
+ * Sent when the client missed a delta and its buffer version fell behind.
+ */
+public record ItemBufferResyncPayload(BlockPos pos) implements CustomPacketPayload {
+
+    public static final Type<ItemBufferResyncPayload> TYPE =
+            new Type<>(Identifier.fromNamespaceAndPath(FloraFauna.MOD_ID, "item_buffer_resync"));
+
+    public static final StreamCodec<ByteBuf, ItemBufferResyncPayload> STREAM_CODEC = StreamCodec.composite(
+            BlockPos.STREAM_CODEC, ItemBufferResyncPayload::pos,
+            ItemBufferResyncPayload::new
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    public static void onServerReceived(final ItemBufferResyncPayload data, final IPayloadContext context) {
+        if (context.player() instanceof ServerPlayer serverPlayer) {
+            ItemBufferSync.sendFullUpdate(serverPlayer, data.pos());
+        }
+    }
+}
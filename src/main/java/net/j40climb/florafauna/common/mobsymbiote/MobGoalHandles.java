@@ -0,0 +1,76 @@
+package net.j40climb.florafauna.common.mobsymbiote;
+
+import net.j40climb.florafauna.setup.FloraFaunaRegistry;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.Goal;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Transient per-mob references to goals installed by this mod.
+ * <p>
+ * Lets lure, fear, and gardening code find, install, and remove their goals
+ * without scanning the goal selector. Not serialized: goals are rebuilt by
+ * their state machines after a reload, just like vanilla goals.
+ */
+public final class MobGoalHandles {
+    @Nullable
+    private Goal lureGoal;
+    @Nullable
+    private Goal fearAvoidanceGoal;
+    private List<Goal> gardeningGoals = List.of();
+
+    /**
+     * Gets the goal handles for a mob, creating them if absent.
+     */
+    public static MobGoalHandles get(Mob mob) {
+        return mob.getData(FloraFaunaRegistry.MOB_GOAL_HANDLES);
+    }
+
+    /**
+     * Gets the goal handles for a mob without attaching new ones.
+     *
+     * @return The handles, or null if none have been recorded for this mob
+     */
+    @Nullable
+    public static MobGoalHandles getExisting(Mob mob) {
+        return mob.hasData(FloraFaunaRegistry.MOB_GOAL_HANDLES) ? mob.getData(FloraFaunaRegistry.MOB_GOAL_HANDLES) : null;
+    }
+
+    // ==================== LURE ====================
+
+    @Nullable
+    public Goal getLureGoal() {
+        return lureGoal;
+    }
+
+    public void setLureGoal(@Nullable Goal goal) {
+        this.lureGoal = goal;
+    }
+
+    // ==================== FEAR ====================
+
+    @Nullable
+    public Goal getFearAvoidanceGoal() {
+        return fearAvoidanceGoal;
+    }
+
+    public void setFearAvoidanceGoal(@Nullable Goal goal) {
+        this.fearAvoidanceGoal = goal;
+    }
+
+    // ==================== IRON GARDEN ====================
+
+    public boolean hasGardeningGoals() {
+        return !gardeningGoals.isEmpty();
+    }
+
+    public List<Goal> getGardeningGoals() {
+        return gardeningGoals;
+    }
+
+    public void setGardeningGoals(List<Goal> goals) {
+        this.gardeningGoals = List.copyOf(goals);
+    }
+}
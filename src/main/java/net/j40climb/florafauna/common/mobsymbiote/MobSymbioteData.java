@@ -2,9 +2,7 @@ package net.j40climb.florafauna.common.mobsymbiote;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
-import io.netty.buffer.ByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 /**
  * Entity attachment data for mob symbiote levels.
@@ -36,15 +34,16 @@ public record MobSymbioteData(
             Codec.LONG.fieldOf("recentlyReleasedUntil").forGetter(MobSymbioteData::recentlyReleasedUntil)
     ).apply(builder, MobSymbioteData::new));
 
-    public static final StreamCodec<ByteBuf, MobSymbioteData> STREAM_CODEC = StreamCodec.composite(
-            ByteBufCodecs.VAR_INT, MobSymbioteData::mobSymbioteLevel,
-            ByteBufCodecs.VAR_LONG, MobSymbioteData::levelUpgradedAtTick,
-            ByteBufCodecs.VAR_LONG, MobSymbioteData::recentlyReleasedUntil,
-            MobSymbioteData::new
-    );
-
     public static final MobSymbioteData DEFAULT = new MobSymbioteData(LEVEL_NONE, 0L, 0L);
 
+    /**
+     * Per-field client sync for the {@link TrackedAttachment} holding this data.
+     */
+    public static final TrackedAttachment.SyncFields<MobSymbioteData> SYNC_FIELDS = new TrackedAttachment.SyncFields<>(DEFAULT)
+            .field(ByteBufCodecs.VAR_INT, MobSymbioteData::mobSymbioteLevel, MobSymbioteData::withLevel)
+            .field(ByteBufCodecs.VAR_LONG, MobSymbioteData::levelUpgradedAtTick, MobSymbioteData::withLevelUpgradedAtTick)
+            .field(ByteBufCodecs.VAR_LONG, MobSymbioteData::recentlyReleasedUntil, MobSymbioteData::withRecentlyReleased);
+
     /**
      * @return true if this mob has a MobSymbiote (level >= 1)
      */
@@ -80,6 +79,16 @@ public record MobSymbioteData(
         return new MobSymbioteData(mobSymbioteLevel, levelUpgradedAtTick, untilTick);
     }
 
+    // ==================== SINGLE-FIELD COPIES (for SYNC_FIELDS) ====================
+
+    private MobSymbioteData withLevel(int level) {
+        return new MobSymbioteData(level, levelUpgradedAtTick, recentlyReleasedUntil);
+    }
+
+    private MobSymbioteData withLevelUpgradedAtTick(long tick) {
+        return new MobSymbioteData(mobSymbioteLevel, tick, recentlyReleasedUntil);
+    }
+
     /**
      * Checks if this mob has release immunity at the given tick.
      *
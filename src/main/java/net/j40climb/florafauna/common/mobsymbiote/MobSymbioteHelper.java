@@ -2,12 +2,12 @@ package net.j40climb.florafauna.common.mobsymbiote;
 
 import net.j40climb.florafauna.Config;
 import net.j40climb.florafauna.common.block.mobtransport.LuredToBlockGoal;
+import net.j40climb.florafauna.common.mobsymbiote.fear.FearScheduler;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.j40climb.florafauna.setup.FloraFaunaTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
-import net.minecraft.world.entity.ai.goal.WrappedGoal;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -31,7 +31,7 @@ public final class MobSymbioteHelper {
         if (!(entity instanceof Mob)) {
             return false;
         }
-        MobSymbioteData data = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
+        MobSymbioteData data = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA).get();
         return data.hasMobSymbiote();
     }
 
@@ -45,7 +45,7 @@ public final class MobSymbioteHelper {
         if (!(entity instanceof Mob)) {
             return MobSymbioteData.LEVEL_NONE;
         }
-        MobSymbioteData data = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
+        MobSymbioteData data = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA).get();
         return data.mobSymbioteLevel();
     }
 
@@ -57,9 +57,9 @@ public final class MobSymbioteHelper {
      * @param currentTick The current game tick
      */
     public static void applyMobSymbioteLevel1(Mob mob, long currentTick) {
-        MobSymbioteData current = mob.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
-        mob.setData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA,
-                current.withMobSymbioteLevel(MobSymbioteData.LEVEL_TRANSPORT, currentTick));
+        TrackedAttachment.update(mob, FloraFaunaRegistry.MOB_SYMBIOTE_DATA,
+                data -> data.withMobSymbioteLevel(MobSymbioteData.LEVEL_TRANSPORT, currentTick));
+        FearScheduler.track(mob);
     }
 
     /**
@@ -75,9 +75,9 @@ public final class MobSymbioteHelper {
         if (!mob.getType().is(FloraFaunaTags.EntityTypes.MOB_SYMBIOTE_LEVEL2_ELIGIBLE)) {
             return false;
         }
-        MobSymbioteData current = mob.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
-        mob.setData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA,
-                current.withMobSymbioteLevel(MobSymbioteData.LEVEL_ENHANCED, currentTick));
+        TrackedAttachment.update(mob, FloraFaunaRegistry.MOB_SYMBIOTE_DATA,
+                data -> data.withMobSymbioteLevel(MobSymbioteData.LEVEL_ENHANCED, currentTick));
+        FearScheduler.track(mob);
         return true;
     }
 
@@ -87,9 +87,8 @@ public final class MobSymbioteHelper {
      * @param mob The mob to remove the symbiote from
      */
     public static void removeMobSymbiote(Mob mob) {
-        MobSymbioteData current = mob.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
-        mob.setData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA,
-                current.withMobSymbioteLevel(MobSymbioteData.LEVEL_NONE, 0L));
+        TrackedAttachment.update(mob, FloraFaunaRegistry.MOB_SYMBIOTE_DATA,
+                data -> data.withMobSymbioteLevel(MobSymbioteData.LEVEL_NONE, 0L));
     }
 
     /**
@@ -111,9 +110,8 @@ public final class MobSymbioteHelper {
      * @param currentTick The current game tick
      */
     public static void markRecentlyReleased(Mob mob, long currentTick) {
-        MobSymbioteData current = mob.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
         long immunityUntil = currentTick + Config.recentlyReleasedImmunityTicks;
-        mob.setData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA, current.withRecentlyReleased(immunityUntil));
+        TrackedAttachment.update(mob, FloraFaunaRegistry.MOB_SYMBIOTE_DATA, data -> data.withRecentlyReleased(immunityUntil));
     }
 
     /**
@@ -127,7 +125,7 @@ public final class MobSymbioteHelper {
         if (!(entity instanceof Mob)) {
             return false;
         }
-        MobSymbioteData data = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
+        MobSymbioteData data = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA).get();
         return data.hasReleaseImmunity(currentTick);
     }
 
@@ -166,6 +164,7 @@ public final class MobSymbioteHelper {
         // Add the lure goal
         LuredToBlockGoal goal = new LuredToBlockGoal(mob, targetPos);
         mob.goalSelector.addGoal(LURE_GOAL_PRIORITY, goal);
+        MobGoalHandles.get(mob).setLureGoal(goal);
         return true;
     }
 
@@ -179,6 +178,7 @@ public final class MobSymbioteHelper {
         LuredToBlockGoal goal = getLureGoal(mob);
         if (goal != null) {
             mob.goalSelector.removeGoal(goal);
+            MobGoalHandles.get(mob).setLureGoal(null);
             return true;
         }
         return false;
@@ -219,18 +219,14 @@ public final class MobSymbioteHelper {
     }
 
     /**
-     * Finds the LuredToBlockGoal in a mob's goal selector.
+     * Gets the mob's LuredToBlockGoal from its goal handles.
      *
      * @param mob The mob to check
-     * @return The LuredToBlockGoal, or null if not found
+     * @return The LuredToBlockGoal, or null if not being lured
      */
     @Nullable
     private static LuredToBlockGoal getLureGoal(Mob mob) {
-        for (WrappedGoal wrappedGoal : mob.goalSelector.getAvailableGoals()) {
-            if (wrappedGoal.getGoal() instanceof LuredToBlockGoal lureGoal) {
-                return lureGoal;
-            }
-        }
-        return null;
+        MobGoalHandles handles = MobGoalHandles.getExisting(mob);
+        return handles != null && handles.getLureGoal() instanceof LuredToBlockGoal lureGoal ? lureGoal : null;
     }
 }
@@ -0,0 +1,211 @@
+package net.j40climb.florafauna.common.mobsymbiote;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import net.j40climb.florafauna.FloraFauna;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.attachment.AttachmentSyncHandler;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.attachment.IAttachmentHolder;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Mutable, dirty-tracked holder for a synced entity attachment whose value is an immutable record.
+ * <p>
+ * Helpers change the value through {@link #update} instead of {@code setData}, which
+ * would resync the whole record to every tracking client on each call. The first change
+ * in a tick queues the entity; at the end of the server tick each queued entity is synced
+ * once, however many changes it had. The sync handler ({@link SyncFields}) sends a bitmask
+ * of the fields that differ from what clients last received, followed by just those fields.
+ * A player who starts tracking the entity gets every field.
+ *
+ * @param <T> The record type held
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public final class TrackedAttachment<T> {
+    private T value;
+    // What tracking clients currently have (server side); the baseline for field deltas
+    private T synced;
+    private boolean queued = false;
+
+    public TrackedAttachment(T initial) {
+        this.value = initial;
+        this.synced = initial;
+    }
+
+    /**
+     * Gets the current value.
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Codec that saves the held value in the record's own format.
+     */
+    public static <T> MapCodec<TrackedAttachment<T>> codec(Codec<T> codec, String name) {
+        return codec.xmap(TrackedAttachment::new, TrackedAttachment::get).fieldOf(name);
+    }
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Applies a change to an entity's attachment. On the server, a real change queues
+     * one sync for the end of the tick.
+     *
+     * @param entity The entity holding the attachment
+     * @param type   The attachment type
+     * @param change Maps the current value to the new one
+     */
+    public static <T> void update(Entity entity, Supplier<AttachmentType<TrackedAttachment<T>>> type, UnaryOperator<T> change) {
+        TrackedAttachment<T> data = entity.getData(type);
+        T updated = change.apply(data.value);
+        if (updated.equals(data.value)) {
+            return;
+        }
+        data.value = updated;
+        if (!data.queued && entity.level() instanceof ServerLevel) {
+            data.queued = true;
+            PENDING.add(new PendingSync(entity, type.get(), data));
+        }
+    }
+
+    /**
+     * Replaces an entity's attachment value. See {@link #update}.
+     */
+    public static <T> void set(Entity entity, Supplier<AttachmentType<TrackedAttachment<T>>> type, T value) {
+        update(entity, type, current -> value);
+    }
+
+    // ==================== BATCHED SYNC ====================
+
+    private record PendingSync(Entity entity, AttachmentType<?> type, TrackedAttachment<?> data) {}
+
+    private static final List<PendingSync> PENDING = new ArrayList<>();
+
+    private void markSynced() {
+        synced = value;
+        queued = false;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        for (PendingSync pending : PENDING) {
+            if (!pending.entity().isRemoved()) {
+                pending.entity().syncData(pending.type());
+            }
+            pending.data().markSynced();
+        }
+        PENDING.clear();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        PENDING.clear();
+    }
+
+    // ==================== FIELD-DELTA SYNC ====================
+
+    /**
+     * One synced field of a record: how to read it, and how to copy a record with it replaced.
+     */
+    private record Field<T, V>(StreamCodec<? super RegistryFriendlyByteBuf, V> codec, Function<T, V> getter,
+                               BiFunction<T, V, T> wither) {
+        private boolean changed(T current, T previous) {
+            return !Objects.equals(getter.apply(current), getter.apply(previous));
+        }
+
+        private void encode(RegistryFriendlyByteBuf buf, T value) {
+            codec.encode(buf, getter.apply(value));
+        }
+
+        private T decodeOnto(RegistryFriendlyByteBuf buf, T value) {
+            return wither.apply(value, codec.decode(buf));
+        }
+    }
+
+    /**
+     * Sync handler that sends only the fields changed since the last sync.
+     * Each decoded field is applied onto the client's previous value with the field's wither.
+     */
+    public static final class SyncFields<T> implements AttachmentSyncHandler<TrackedAttachment<T>> {
+        private static final int MAX_FIELDS = 31;
+
+        private final T defaultValue;
+        private final List<Field<T, ?>> fields = new ArrayList<>();
+
+        /**
+         * @param defaultValue Value a client starts from before its first sync
+         */
+        public SyncFields(T defaultValue) {
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * Adds the next field.
+         *
+         * @param codec  Encodes the field's value
+         * @param getter Reads the field from a record
+         * @param wither Copies a record with the field replaced
+         */
+        public <V> SyncFields<T> field(StreamCodec<? super RegistryFriendlyByteBuf, V> codec, Function<T, V> getter,
+                                       BiFunction<T, V, T> wither) {
+            if (fields.size() >= MAX_FIELDS) {
+                throw new IllegalStateException("Too many synced fields for one bitmask");
+            }
+            fields.add(new Field<>(codec, getter, wither));
+            return this;
+        }
+
+        @Override
+        public void write(RegistryFriendlyByteBuf buf, TrackedAttachment<T> attachment, boolean initialSync) {
+            int mask = 0;
+            for (int i = 0; i < fields.size(); i++) {
+                if (initialSync || fields.get(i).changed(attachment.value, attachment.synced)) {
+                    mask |= 1 << i;
+                }
+            }
+            ByteBufCodecs.VAR_INT.encode(buf, mask);
+            for (int i = 0; i < fields.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    fields.get(i).encode(buf, attachment.value);
+                }
+            }
+        }
+
+        @Override
+        public TrackedAttachment<T> read(IAttachmentHolder holder, RegistryFriendlyByteBuf buf,
+                                         @Nullable TrackedAttachment<T> previousValue) {
+            TrackedAttachment<T> target = previousValue != null ? previousValue : new TrackedAttachment<>(defaultValue);
+            int mask = ByteBufCodecs.VAR_INT.decode(buf);
+            T value = target.value;
+            for (int i = 0; i < fields.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    value = fields.get(i).decodeOnto(buf, value);
+                }
+            }
+            target.value = value;
+            target.synced = target.value;
+            return target;
+        }
+    }
+}
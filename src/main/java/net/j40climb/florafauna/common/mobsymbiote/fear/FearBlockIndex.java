@@ -0,0 +1,260 @@
+package net.j40climb.florafauna.common.mobsymbiote.fear;
+
+import net.j40climb.florafauna.FloraFauna;
+import net.j40climb.florafauna.setup.FloraFaunaTags;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-chunk-section index of blocks carrying fear tags (reflective blocks, cold blocks).
+ *
+ * A section is scanned the first time a fear check asks about it, skipping sections
+ * whose palette cannot contain a tagged block. After that, block changes that notify
+ * neighbors keep it current, so enderman and blaze detection become a range query
+ * over known positions instead of a getBlockState sweep per mob per check. Sections
+ * are rescanned every {@link #RESCAN_INTERVAL_TICKS} to pick up changes made without
+ * neighbor updates. Only loaded chunks are indexed; queries never load chunks.
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public class FearBlockIndex {
+
+    /**
+     * Tags tracked by the index. Queries for any other tag are rejected.
+     */
+    private static final List<TagKey<Block>> INDEXED_TAGS = List.of(
+            FloraFaunaTags.Blocks.REFLECTIVE_BLOCKS,
+            FloraFaunaTags.Blocks.COLD_BLOCKS
+    );
+
+    private static final int RESCAN_INTERVAL_TICKS = 1200;
+
+    // Level -> chunk -> section Y -> indexed section
+    private static final Map<ResourceKey<Level>, Map<Long, Map<Integer, IndexedSection>>> INDEX = new HashMap<>();
+
+    private FearBlockIndex() {} // Utility class
+
+    /**
+     * Tagged positions in one chunk section, packed as section-local (x, y, z), one set per indexed tag.
+     */
+    private static class IndexedSection {
+        private final List<Set<Integer>> positionsByTag = new ArrayList<>(INDEXED_TAGS.size());
+        private final long scannedAtTick;
+
+        IndexedSection(long scannedAtTick) {
+            this.scannedAtTick = scannedAtTick;
+            for (int i = 0; i < INDEXED_TAGS.size(); i++) {
+                positionsByTag.add(new HashSet<>());
+            }
+        }
+
+        void update(int packed, BlockState state) {
+            for (int i = 0; i < INDEXED_TAGS.size(); i++) {
+                if (state.is(INDEXED_TAGS.get(i))) {
+                    positionsByTag.get(i).add(packed);
+                } else {
+                    positionsByTag.get(i).remove(packed);
+                }
+            }
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Finds all positions with the given tag inside a box (inclusive corners).
+     *
+     * @param level The level to query
+     * @param min   Minimum corner
+     * @param max   Maximum corner
+     * @param tag   An indexed fear tag
+     * @return Matching positions in no particular order
+     */
+    public static List<BlockPos> findInBox(ServerLevel level, BlockPos min, BlockPos max, TagKey<Block> tag) {
+        List<BlockPos> results = new ArrayList<>();
+        forEachInBox(level, min, max, tag, (x, y, z) -> results.add(new BlockPos(x, y, z)));
+        return results;
+    }
+
+    /**
+     * Counts positions with the given tag within a cubic area.
+     *
+     * @param level  The level to query
+     * @param center The center position
+     * @param radius The radius (a cube of 2*radius+1 on each side)
+     * @param tag    An indexed fear tag
+     * @return The count of matching blocks
+     */
+    public static int countInCube(ServerLevel level, BlockPos center, int radius, TagKey<Block> tag) {
+        int[] count = {0};
+        forEachInBox(level, center.offset(-radius, -radius, -radius), center.offset(radius, radius, radius), tag,
+                (x, y, z) -> count[0]++);
+        return count[0];
+    }
+
+    @FunctionalInterface
+    private interface PositionVisitor {
+        void accept(int x, int y, int z);
+    }
+
+    private static void forEachInBox(ServerLevel level, BlockPos min, BlockPos max, TagKey<Block> tag, PositionVisitor visitor) {
+        int tagIndex = INDEXED_TAGS.indexOf(tag);
+        if (tagIndex < 0) {
+            throw new IllegalArgumentException("Block tag is not indexed for fear detection: " + tag.location());
+        }
+
+        int minSectionY = Math.max(SectionPos.blockToSectionCoord(min.getY()), level.getMinSectionY());
+        int maxSectionY = Math.min(SectionPos.blockToSectionCoord(max.getY()), level.getMaxSectionY());
+        for (int sx = SectionPos.blockToSectionCoord(min.getX()); sx <= SectionPos.blockToSectionCoord(max.getX()); sx++) {
+            for (int sz = SectionPos.blockToSectionCoord(min.getZ()); sz <= SectionPos.blockToSectionCoord(max.getZ()); sz++) {
+                for (int sy = minSectionY; sy <= maxSectionY; sy++) {
+                    IndexedSection section = getOrScan(level, sx, sy, sz);
+                    if (section == null) {
+                        continue;
+                    }
+                    int originX = SectionPos.sectionToBlockCoord(sx);
+                    int originY = SectionPos.sectionToBlockCoord(sy);
+                    int originZ = SectionPos.sectionToBlockCoord(sz);
+                    for (int packed : section.positionsByTag.get(tagIndex)) {
+                        int x = originX + (packed & 15);
+                        int y = originY + ((packed >> 8) & 15);
+                        int z = originZ + ((packed >> 4) & 15);
+                        if (x >= min.getX() && x <= max.getX()
+                                && y >= min.getY() && y <= max.getY()
+                                && z >= min.getZ() && z <= max.getZ()) {
+                            visitor.accept(x, y, z);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // ==================== SECTION SCANNING ====================
+
+    /**
+     * Gets the indexed section, scanning it if it is new or stale.
+     *
+     * @return The section, or null if its chunk is not loaded
+     */
+    @Nullable
+    private static IndexedSection getOrScan(ServerLevel level, int sx, int sy, int sz) {
+        long currentTick = level.getGameTime();
+        long chunkKey = ChunkPos.asLong(sx, sz);
+        Map<Long, Map<Integer, IndexedSection>> chunks = INDEX.computeIfAbsent(level.dimension(), key -> new HashMap<>());
+        Map<Integer, IndexedSection> sections = chunks.get(chunkKey);
+        IndexedSection section = sections != null ? sections.get(sy) : null;
+        if (section != null && currentTick - section.scannedAtTick < RESCAN_INTERVAL_TICKS) {
+            return section;
+        }
+
+        LevelChunk chunk = level.getChunkSource().getChunkNow(sx, sz);
+        if (chunk == null) {
+            return null;
+        }
+
+        section = scan(chunk.getSection(chunk.getSectionIndexFromSectionY(sy)), currentTick);
+        chunks.computeIfAbsent(chunkKey, key -> new HashMap<>()).put(sy, section);
+        return section;
+    }
+
+    private static IndexedSection scan(LevelChunkSection chunkSection, long currentTick) {
+        IndexedSection section = new IndexedSection(currentTick);
+        if (chunkSection.hasOnlyAir() || !chunkSection.maybeHas(FearBlockIndex::isIndexed)) {
+            return section;
+        }
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    BlockState state = chunkSection.getBlockState(x, y, z);
+                    if (isIndexed(state)) {
+                        section.update(packLocal(x, y, z), state);
+                    }
+                }
+            }
+        }
+        return section;
+    }
+
+    private static boolean isIndexed(BlockState state) {
+        for (TagKey<Block> tag : INDEXED_TAGS) {
+            if (state.is(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int packLocal(int x, int y, int z) {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    // ==================== EVENTS ====================
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
+        Map<Long, Map<Integer, IndexedSection>> chunks = INDEX.get(serverLevel.dimension());
+        if (chunks == null) {
+            return;
+        }
+
+        BlockPos pos = event.getPos();
+        Map<Integer, IndexedSection> sections = chunks.get(ChunkPos.asLong(pos));
+        IndexedSection section = sections != null ? sections.get(SectionPos.blockToSectionCoord(pos.getY())) : null;
+        if (section != null) {
+            section.update(packLocal(SectionPos.sectionRelative(pos.getX()), SectionPos.sectionRelative(pos.getY()),
+                    SectionPos.sectionRelative(pos.getZ())), serverLevel.getBlockState(pos));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            Map<Long, Map<Integer, IndexedSection>> chunks = INDEX.get(serverLevel.dimension());
+            if (chunks != null) {
+                chunks.remove(event.getChunk().getPos().toLong());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            // Tag membership may have changed; rescan lazily
+            INDEX.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            INDEX.remove(serverLevel.dimension());
+        }
+    }
+}
@@ -2,10 +2,9 @@ package net.j40climb.florafauna.common.mobsymbiote.fear;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
-import io.netty.buffer.ByteBuf;
+import net.j40climb.florafauna.common.mobsymbiote.TrackedAttachment;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 import java.util.Optional;
 
@@ -44,21 +43,22 @@ public record FearData(
             Codec.BOOL.fieldOf("hasFearSourcePos").forGetter(FearData::hasFearSourcePos)
     ).apply(builder, FearData::new));
 
-    public static final StreamCodec<ByteBuf, FearData> STREAM_CODEC = StreamCodec.composite(
-            ByteBufCodecs.STRING_UTF8.map(FearState::valueOf, FearState::name), FearData::fearState,
-            ByteBufCodecs.VAR_LONG, FearData::stateEnteredTick,
-            ByteBufCodecs.VAR_INT, FearData::leakCountSinceCooldown,
-            ByteBufCodecs.VAR_INT, FearData::fearSourceX,
-            ByteBufCodecs.VAR_INT, FearData::fearSourceY,
-            ByteBufCodecs.VAR_INT, FearData::fearSourceZ,
-            ByteBufCodecs.BOOL, FearData::hasFearSourcePos,
-            FearData::new
-    );
-
     public static final FearData DEFAULT = new FearData(
             FearState.CALM, 0L, 0, 0, 0, 0, false
     );
 
+    /**
+     * Per-field client sync for the {@link TrackedAttachment} holding this data.
+     */
+    public static final TrackedAttachment.SyncFields<FearData> SYNC_FIELDS = new TrackedAttachment.SyncFields<>(DEFAULT)
+            .field(ByteBufCodecs.STRING_UTF8.map(FearState::valueOf, FearState::name), FearData::fearState, FearData::withFearState)
+            .field(ByteBufCodecs.VAR_LONG, FearData::stateEnteredTick, FearData::withStateEnteredTick)
+            .field(ByteBufCodecs.VAR_INT, FearData::leakCountSinceCooldown, FearData::withLeakCount)
+            .field(ByteBufCodecs.VAR_INT, FearData::fearSourceX, FearData::withFearSourceX)
+            .field(ByteBufCodecs.VAR_INT, FearData::fearSourceY, FearData::withFearSourceY)
+            .field(ByteBufCodecs.VAR_INT, FearData::fearSourceZ, FearData::withFearSourceZ)
+            .field(ByteBufCodecs.BOOL, FearData::hasFearSourcePos, FearData::withHasFearSourcePos);
+
     /**
      * Transition to a new fear state.
      *
@@ -125,6 +125,38 @@ public record FearData(
         return currentTick - stateEnteredTick;
     }
 
+    // ==================== SINGLE-FIELD COPIES (for SYNC_FIELDS) ====================
+
+    private FearData withFearState(FearState newState) {
+        return new FearData(newState, stateEnteredTick, leakCountSinceCooldown,
+                fearSourceX, fearSourceY, fearSourceZ, hasFearSourcePos);
+    }
+
+    private FearData withStateEnteredTick(long tick) {
+        return new FearData(fearState, tick, leakCountSinceCooldown,
+                fearSourceX, fearSourceY, fearSourceZ, hasFearSourcePos);
+    }
+
+    private FearData withFearSourceX(int x) {
+        return new FearData(fearState, stateEnteredTick, leakCountSinceCooldown,
+                x, fearSourceY, fearSourceZ, hasFearSourcePos);
+    }
+
+    private FearData withFearSourceY(int y) {
+        return new FearData(fearState, stateEnteredTick, leakCountSinceCooldown,
+                fearSourceX, y, fearSourceZ, hasFearSourcePos);
+    }
+
+    private FearData withFearSourceZ(int z) {
+        return new FearData(fearState, stateEnteredTick, leakCountSinceCooldown,
+                fearSourceX, fearSourceY, z, hasFearSourcePos);
+    }
+
+    private FearData withHasFearSourcePos(boolean hasPos) {
+        return new FearData(fearState, stateEnteredTick, leakCountSinceCooldown,
+                fearSourceX, fearSourceY, fearSourceZ, hasPos);
+    }
+
     /**
      * Increment the leak count (for tracking consecutive leaks).
      *
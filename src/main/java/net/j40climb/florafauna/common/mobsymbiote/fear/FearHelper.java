@@ -1,6 +1,7 @@
 package net.j40climb.florafauna.common.mobsymbiote.fear;
 
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteHelper;
+import net.j40climb.florafauna.common.mobsymbiote.TrackedAttachment;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.j40climb.florafauna.setup.FloraFaunaTags;
 import net.minecraft.core.BlockPos;
@@ -28,7 +29,7 @@ public final class FearHelper {
         if (!(entity instanceof Mob)) {
             return FearState.CALM;
         }
-        FearData data = entity.getData(FloraFaunaRegistry.FEAR_DATA);
+        FearData data = entity.getData(FloraFaunaRegistry.FEAR_DATA).get();
         return data.fearState();
     }
 
@@ -42,7 +43,7 @@ public final class FearHelper {
         if (!(entity instanceof Mob)) {
             return FearData.DEFAULT;
         }
-        return entity.getData(FloraFaunaRegistry.FEAR_DATA);
+        return entity.getData(FloraFaunaRegistry.FEAR_DATA).get();
     }
 
     /**
@@ -53,8 +54,7 @@ public final class FearHelper {
      * @param currentTick The current game tick
      */
     public static void setFearState(Mob mob, FearState newState, long currentTick) {
-        FearData current = mob.getData(FloraFaunaRegistry.FEAR_DATA);
-        mob.setData(FloraFaunaRegistry.FEAR_DATA, current.withState(newState, currentTick));
+        TrackedAttachment.update(mob, FloraFaunaRegistry.FEAR_DATA, data -> data.withState(newState, currentTick));
     }
 
     /**
@@ -68,7 +68,7 @@ public final class FearHelper {
         if (!(entity instanceof Mob)) {
             return 0;
         }
-        FearData data = entity.getData(FloraFaunaRegistry.FEAR_DATA);
+        FearData data = entity.getData(FloraFaunaRegistry.FEAR_DATA).get();
         return data.getTicksInState(currentTick);
     }
 
@@ -106,8 +106,7 @@ public final class FearHelper {
      * @param mob The mob that leaked
      */
     public static void incrementLeakCount(Mob mob) {
-        FearData current = mob.getData(FloraFaunaRegistry.FEAR_DATA);
-        mob.setData(FloraFaunaRegistry.FEAR_DATA, current.incrementLeakCount());
+        TrackedAttachment.update(mob, FloraFaunaRegistry.FEAR_DATA, data -> data.incrementLeakCount());
     }
 
     /**
@@ -117,8 +116,7 @@ public final class FearHelper {
      * @param mob The mob to reset
      */
     public static void resetLeakCount(Mob mob) {
-        FearData current = mob.getData(FloraFaunaRegistry.FEAR_DATA);
-        mob.setData(FloraFaunaRegistry.FEAR_DATA, current.resetLeakCount());
+        TrackedAttachment.update(mob, FloraFaunaRegistry.FEAR_DATA, data -> data.resetLeakCount());
     }
 
     /**
@@ -131,7 +129,7 @@ public final class FearHelper {
         if (!(entity instanceof Mob)) {
             return 0;
         }
-        FearData data = entity.getData(FloraFaunaRegistry.FEAR_DATA);
+        FearData data = entity.getData(FloraFaunaRegistry.FEAR_DATA).get();
         return data.leakCountSinceCooldown();
     }
 
@@ -144,8 +142,7 @@ public final class FearHelper {
      * @param pos The position of the fear source
      */
     public static void setFearSourcePos(Mob mob, BlockPos pos) {
-        FearData current = mob.getData(FloraFaunaRegistry.FEAR_DATA);
-        mob.setData(FloraFaunaRegistry.FEAR_DATA, current.withFearSourcePos(pos));
+        TrackedAttachment.update(mob, FloraFaunaRegistry.FEAR_DATA, data -> data.withFearSourcePos(pos));
     }
 
     /**
@@ -154,8 +151,7 @@ public final class FearHelper {
      * @param mob The mob to update
      */
     public static void clearFearSourcePos(Mob mob) {
-        FearData current = mob.getData(FloraFaunaRegistry.FEAR_DATA);
-        mob.setData(FloraFaunaRegistry.FEAR_DATA, current.withoutFearSourcePos());
+        TrackedAttachment.update(mob, FloraFaunaRegistry.FEAR_DATA, data -> data.withoutFearSourcePos());
     }
 
     /**
@@ -166,12 +162,10 @@ public final class FearHelper {
      * @param resetLeaks  If true, also reset the leak count
      */
     public static void resetToCalm(Mob mob, long currentTick, boolean resetLeaks) {
-        FearData current = mob.getData(FloraFaunaRegistry.FEAR_DATA);
-        FearData updated = current.withState(FearState.CALM, currentTick)
-                .withoutFearSourcePos();
-        if (resetLeaks) {
-            updated = updated.resetLeakCount();
-        }
-        mob.setData(FloraFaunaRegistry.FEAR_DATA, updated);
+        TrackedAttachment.update(mob, FloraFaunaRegistry.FEAR_DATA, data -> {
+            FearData updated = data.withState(FearState.CALM, currentTick)
+                    .withoutFearSourcePos();
+            return resetLeaks ? updated.resetLeakCount() : updated;
+        });
     }
 }
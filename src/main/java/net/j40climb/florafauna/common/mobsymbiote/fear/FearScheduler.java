@@ -0,0 +1,227 @@
+package net.j40climb.florafauna.common.mobsymbiote.fear;
+
+import net.j40climb.florafauna.Config;
+import net.j40climb.florafauna.FloraFauna;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * Level-scoped scheduler for fear state updates.
+ *
+ * Fearful mobs are registered when they join a level (or gain a MobSymbiote) and
+ * slotted by entity ID across {@code Config.fearCheckIntervalTicks}, so each tick
+ * only evaluates its share of mobs instead of every mob on the same tick. Each
+ * tick's work is capped by {@code Config.fearCheckBudgetMicros}; checks that do
+ * not fit carry over to the next tick ahead of that tick's own slot.
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public class FearScheduler {
+
+    private static final Map<ResourceKey<Level>, LevelSchedule> SCHEDULES = new HashMap<>();
+
+    private FearScheduler() {} // Utility class
+
+    // ==================== REGISTRATION ====================
+
+    /**
+     * Registers a mob for fear checks if it can experience fear.
+     * Safe to call repeatedly; used when a mob gains a MobSymbiote.
+     */
+    public static void track(Mob mob) {
+        if (mob.level() instanceof ServerLevel serverLevel && FearHelper.canExperienceFear(mob)) {
+            getSchedule(serverLevel).add(mob.getId());
+        }
+    }
+
+    /**
+     * Unregisters a mob from fear checks.
+     */
+    public static void untrack(Mob mob) {
+        if (mob.level() instanceof ServerLevel serverLevel) {
+            LevelSchedule schedule = SCHEDULES.get(serverLevel.dimension());
+            if (schedule != null) {
+                schedule.remove(mob.getId());
+            }
+        }
+    }
+
+    // ==================== STATS ====================
+
+    /**
+     * Counters for a level's fear scheduling, cumulative since the level loaded.
+     *
+     * @param tracked Mobs currently registered
+     * @param checksRun Fear checks evaluated
+     * @param checksDeferred Checks pushed to a later tick by the time budget
+     */
+    public record Stats(int tracked, long checksRun, long checksDeferred) {}
+
+    public static Stats getStats(ServerLevel level) {
+        LevelSchedule schedule = SCHEDULES.get(level.dimension());
+        if (schedule == null) {
+            return new Stats(0, 0, 0);
+        }
+        return new Stats(schedule.slotById.size(), schedule.checksRun, schedule.checksDeferred);
+    }
+
+    private static LevelSchedule getSchedule(ServerLevel level) {
+        return SCHEDULES.computeIfAbsent(level.dimension(), key -> new LevelSchedule());
+    }
+
+    // ==================== EVENTS ====================
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel && event.getEntity() instanceof Mob mob) {
+            track(mob);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel && event.getEntity() instanceof Mob mob) {
+            untrack(mob);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) {
+            return;
+        }
+
+        LevelSchedule schedule = SCHEDULES.get(serverLevel.dimension());
+        if (schedule == null || schedule.slotById.isEmpty()) {
+            return;
+        }
+
+        long currentTick = serverLevel.getGameTime();
+        schedule.run(currentTick, id -> {
+            if (!(serverLevel.getEntity(id) instanceof Mob mob) || mob.isRemoved()
+                    || !FearHelper.canExperienceFear(mob)) {
+                return false; // Gone, or lost its MobSymbiote
+            }
+            FearStateEvents.updateFearState(mob, currentTick);
+            return true;
+        });
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            SCHEDULES.remove(serverLevel.dimension());
+        }
+    }
+
+    // ==================== PER-LEVEL SCHEDULE ====================
+
+    /**
+     * Registered mob IDs bucketed into interval slots, plus checks carried over by the budget.
+     */
+    private static class LevelSchedule {
+        private final Map<Integer, Integer> slotById = new HashMap<>();
+        private Set<Integer>[] slots = newSlots(Config.fearCheckIntervalTicks);
+        private final Set<Integer> carryOver = new LinkedHashSet<>();
+        private final List<Integer> batch = new ArrayList<>();
+        private long checksRun = 0;
+        private long checksDeferred = 0;
+
+        @SuppressWarnings("unchecked")
+        private static Set<Integer>[] newSlots(int interval) {
+            Set<Integer>[] slots = new Set[Math.max(1, interval)];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = new LinkedHashSet<>();
+            }
+            return slots;
+        }
+
+        void add(int id) {
+            if (slotById.containsKey(id)) {
+                return;
+            }
+            int slot = Math.floorMod(id, slots.length);
+            slotById.put(id, slot);
+            slots[slot].add(id);
+        }
+
+        void remove(int id) {
+            Integer slot = slotById.remove(id);
+            if (slot != null) {
+                slots[slot].remove(id);
+                carryOver.remove(id);
+            }
+        }
+
+        /**
+         * Re-slots every registered mob if the configured interval changed.
+         */
+        private void resizeIfNeeded() {
+            int interval = Math.max(1, Config.fearCheckIntervalTicks);
+            if (interval == slots.length) {
+                return;
+            }
+            slots = newSlots(interval);
+            for (Map.Entry<Integer, Integer> entry : slotById.entrySet()) {
+                int slot = Math.floorMod(entry.getKey(), interval);
+                entry.setValue(slot);
+                slots[slot].add(entry.getKey());
+            }
+        }
+
+        /**
+         * Runs carried-over checks, then this tick's slot, until the time budget is spent.
+         * At least one check runs per tick so carry-over always drains.
+         *
+         * @param check Evaluates one mob; returns false if the mob should be unregistered
+         */
+        void run(long currentTick, IntPredicate check) {
+            resizeIfNeeded();
+
+            // Snapshot the work: checks can kill mobs, which unregisters them mid-iteration
+            batch.clear();
+            batch.addAll(carryOver);
+            for (int id : slots[(int) Math.floorMod(currentTick, (long) slots.length)]) {
+                if (!carryOver.contains(id)) {
+                    batch.add(id);
+                }
+            }
+            carryOver.clear();
+
+            long deadline = System.nanoTime() + Config.fearCheckBudgetMicros * 1000L;
+            int ran = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                int id = batch.get(i);
+                if (!slotById.containsKey(id)) {
+                    continue; // Unregistered by an earlier check this tick
+                }
+                if (ran > 0 && System.nanoTime() >= deadline) {
+                    // Over budget - defer the rest
+                    carryOver.add(id);
+                    checksDeferred++;
+                    continue;
+                }
+                ran++;
+                if (!check.test(id)) {
+                    remove(id);
+                }
+            }
+            checksRun += ran;
+        }
+    }
+}
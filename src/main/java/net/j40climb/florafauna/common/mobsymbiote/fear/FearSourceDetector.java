@@ -1,9 +1,10 @@
 package net.j40climb.florafauna.common.mobsymbiote.fear;
 
 import net.j40climb.florafauna.Config;
-import net.j40climb.florafauna.common.util.AreaScanner;
+import net.j40climb.florafauna.common.util.LineOfSight;
 import net.j40climb.florafauna.setup.FloraFaunaTags;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -21,6 +22,7 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import javax.annotation.Nullable;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +36,13 @@ import java.util.Optional;
  */
 public class FearSourceDetector {
 
+    private static final int LOS_CACHE_TICKS = 10;
+    private static final LineOfSight.OpacityTest<BlockPos> FEAR_OPACITY = FearSourceDetector::isFearOpaque;
+
+    // Separate caches: a block target excludes its own block, an entity target does not
+    private static final LineOfSight.Cache ENTITY_LOS_CACHE = new LineOfSight.Cache(LOS_CACHE_TICKS);
+    private static final LineOfSight.Cache BLOCK_LOS_CACHE = new LineOfSight.Cache(LOS_CACHE_TICKS);
+
     /**
      * Result of fear source detection.
      * Contains either an entity or just a position (for block-based fear sources).
@@ -77,18 +86,19 @@ public class FearSourceDetector {
      * @return The nearest cat or ocelot with line-of-sight, or empty if none found
      */
     public static Optional<FearSource> detectCreeperFearSource(Creeper creeper, double range) {
-        if (creeper.level().isClientSide()) {
+        if (!(creeper.level() instanceof ServerLevel level)) {
             return Optional.empty();
         }
 
-        Vec3 creeperPos = creeper.getEyePosition();
         AABB searchBox = creeper.getBoundingBox().inflate(range);
 
-        // Find all cats and ocelots in range
-        List<Entity> potentialSources = creeper.level().getEntities(
-                creeper,
+        // Find registered cats and ocelots in range
+        List<Entity> potentialSources = FearSourceRegistry.findSources(
+                level,
+                FearSourceRegistry.Kind.FELINE,
+                Entity.class,
                 searchBox,
-                entity -> isCreeperFearSource(entity) && entity.isAlive()
+                entity -> true
         );
 
         // Find the nearest one with line-of-sight
@@ -116,11 +126,10 @@ public class FearSourceDetector {
      * @return The nearest fear source (armor stand or block position)
      */
     public static Optional<FearSource> detectEndermanFearSource(EnderMan enderman, double range) {
-        if (enderman.level().isClientSide()) {
+        if (!(enderman.level() instanceof ServerLevel level)) {
             return Optional.empty();
         }
 
-        Level level = enderman.level();
         Vec3 endermanEye = enderman.getEyePosition();
         double stareDistance = Config.endermanStareDistance;
 
@@ -130,10 +139,12 @@ public class FearSourceDetector {
 
         // Check for armor stands with staring faces within range
         AABB searchBox = enderman.getBoundingBox().inflate(range);
-        List<ArmorStand> armorStands = level.getEntitiesOfClass(
+        List<ArmorStand> armorStands = FearSourceRegistry.findSources(
+                level,
+                FearSourceRegistry.Kind.ARMOR_STAND,
                 ArmorStand.class,
                 searchBox,
-                stand -> isStaringArmorStand(stand) && stand.isAlive()
+                FearSourceDetector::isStaringArmorStand
         );
 
         for (ArmorStand stand : armorStands) {
@@ -144,30 +155,27 @@ public class FearSourceDetector {
             }
         }
 
-        // Check for reflective blocks within stare distance
+        // Check indexed reflective blocks around eye level, nearest first, until one is visible
         BlockPos endermanPos = enderman.blockPosition();
         int stareDistInt = (int) Math.ceil(stareDistance);
+        List<BlockPos> reflectiveBlocks = FearBlockIndex.findInBox(
+                level,
+                endermanPos.offset(-stareDistInt, -2, -stareDistInt),
+                endermanPos.offset(stareDistInt, 2, stareDistInt),
+                FloraFaunaTags.Blocks.REFLECTIVE_BLOCKS
+        );
+        reflectiveBlocks.sort(Comparator.comparingDouble(pos -> endermanEye.distanceToSqr(Vec3.atCenterOf(pos))));
 
-        for (int dx = -stareDistInt; dx <= stareDistInt; dx++) {
-            for (int dy = -2; dy <= 2; dy++) {  // Check around eye level
-                for (int dz = -stareDistInt; dz <= stareDistInt; dz++) {
-                    BlockPos checkPos = endermanPos.offset(dx, dy, dz);
-                    BlockState state = level.getBlockState(checkPos);
-
-                    if (state.is(FloraFaunaTags.Blocks.REFLECTIVE_BLOCKS)) {
-                        Vec3 blockCenter = Vec3.atCenterOf(checkPos);
-                        double distSq = endermanEye.distanceToSqr(blockCenter);
-
-                        // Must be within stare distance AND closer than current nearest
-                        if (distSq <= stareDistance * stareDistance && distSq < nearestDistSq) {
-                            // Check line of sight to block
-                            if (hasLineOfSightToBlock(enderman, checkPos)) {
-                                nearestDistSq = distSq;
-                                nearestSource = FearSource.fromBlockPos(checkPos);
-                            }
-                        }
-                    }
-                }
+        for (BlockPos checkPos : reflectiveBlocks) {
+            double distSq = endermanEye.distanceToSqr(Vec3.atCenterOf(checkPos));
+
+            // Must be within stare distance AND closer than current nearest
+            if (distSq > stareDistance * stareDistance || distSq >= nearestDistSq) {
+                break;
+            }
+            if (hasLineOfSightToBlock(enderman, checkPos)) {
+                nearestSource = FearSource.fromBlockPos(checkPos);
+                break;
             }
         }
 
@@ -186,26 +194,27 @@ public class FearSourceDetector {
      * @return The nearest snow golem as fear source, or empty if conditions not met
      */
     public static Optional<FearSource> detectBlazeFearSource(Blaze blaze, double range) {
-        if (blaze.level().isClientSide()) {
+        if (!(blaze.level() instanceof ServerLevel level)) {
             return Optional.empty();
         }
 
-        Level level = blaze.level();
         BlockPos blazePos = blaze.blockPosition();
 
         // Count snow golems within range
         AABB searchBox = blaze.getBoundingBox().inflate(range);
-        List<SnowGolem> snowGolems = level.getEntitiesOfClass(
+        List<SnowGolem> snowGolems = FearSourceRegistry.findSources(
+                level,
+                FearSourceRegistry.Kind.SNOW_GOLEM,
                 SnowGolem.class,
                 searchBox,
-                golem -> golem.isAlive()
+                golem -> true
         );
 
         int golemCount = snowGolems.size();
         boolean hasEnoughGolems = golemCount >= Config.blazeMinSnowGolems;
 
         // Count cold blocks in area
-        int coldBlockCount = AreaScanner.countBlocksWithTag(
+        int coldBlockCount = FearBlockIndex.countInCube(
                 level,
                 blazePos,
                 Config.blazeColdScanRadius,
@@ -292,19 +301,20 @@ public class FearSourceDetector {
 
     /**
      * Check if the mob has line-of-sight to the target.
-     * Uses ray-stepping to check for blocks in the way, skipping transparent blocks (glass).
+     * Walks every block between the eyes, skipping transparent blocks (glass).
+     * Results are reused for a few ticks for the same pair of eye blocks.
      *
      * @param mob    The mob looking
      * @param target The target entity
      * @return true if there's a clear line of sight
      */
     public static boolean hasLineOfSight(Mob mob, Entity target) {
-        return hasLineOfSightBetween(mob.level(), mob.getEyePosition(), target.getEyePosition());
+        return ENTITY_LOS_CACHE.isClear(mob.level(), mob.getEyePosition(), target.getEyePosition(), FEAR_OPACITY, null);
     }
 
     /**
      * Check if the mob has line-of-sight to a block position.
-     * Uses ray-stepping to check for blocks in the way, skipping transparent blocks (glass).
+     * Walks every block between the eye and the block, skipping transparent blocks (glass).
      * The target block itself is excluded from the occlusion check.
      *
      * @param mob      The mob looking
@@ -312,72 +322,19 @@ public class FearSourceDetector {
      * @return true if there's a clear line of sight
      */
     public static boolean hasLineOfSightToBlock(Mob mob, BlockPos blockPos) {
-        return hasLineOfSightBetween(mob.level(), mob.getEyePosition(), Vec3.atCenterOf(blockPos), blockPos);
-    }
-
-    /**
-     * Ray-step between two positions to check for line-of-sight.
-     * Skips blocks tagged as FEAR_LOS_TRANSPARENT (glass, etc.).
-     *
-     * @param level The level to check in
-     * @param start Starting position (e.g., mob's eye)
-     * @param end   Ending position (e.g., target's eye)
-     * @return true if there's a clear line of sight
-     */
-    private static boolean hasLineOfSightBetween(Level level, Vec3 start, Vec3 end) {
-        return hasLineOfSightBetween(level, start, end, null);
+        return BLOCK_LOS_CACHE.isClear(mob.level(), mob.getEyePosition(), Vec3.atCenterOf(blockPos), FEAR_OPACITY, blockPos);
     }
 
     /**
-     * Ray-step between two positions to check for line-of-sight.
-     * Skips blocks tagged as FEAR_LOS_TRANSPARENT (glass, etc.).
-     *
-     * @param level       The level to check in
-     * @param start       Starting position (e.g., mob's eye)
-     * @param end         Ending position (e.g., target's eye)
-     * @param targetBlock Optional target block to exclude from occlusion check (the block we're looking AT)
-     * @return true if there's a clear line of sight
+     * Whether a block blocks fear line-of-sight.
+     * Air and blocks tagged as FEAR_LOS_TRANSPARENT (glass, etc.) never block; other blocks block if they occlude.
+     * The context is the block being looked AT, which never blocks its own view (null for entity targets).
      */
-    private static boolean hasLineOfSightBetween(Level level, Vec3 start, Vec3 end, @Nullable BlockPos targetBlock) {
-        Vec3 direction = end.subtract(start);
-        double distance = direction.length();
-
-        if (distance < 0.01) {
-            return true;  // Same position
-        }
-
-        direction = direction.normalize();
-        double stepSize = 0.5;
-        BlockPos lastChecked = null;
-
-        for (double traveled = 0; traveled < distance; traveled += stepSize) {
-            Vec3 currentPos = start.add(direction.scale(traveled));
-            BlockPos blockPos = BlockPos.containing(currentPos);
-
-            // Skip if we already checked this block position
-            if (blockPos.equals(lastChecked)) {
-                continue;
-            }
-            lastChecked = blockPos;
-
-            // Skip the target block itself (we're checking if we can SEE it, not through it)
-            if (targetBlock != null && blockPos.equals(targetBlock)) {
-                continue;
-            }
-
-            BlockState state = level.getBlockState(blockPos);
-
-            // Skip air and transparent blocks (glass)
-            if (state.isAir() || state.is(FloraFaunaTags.Blocks.FEAR_LOS_TRANSPARENT)) {
-                continue;
-            }
-
-            // Check if block occludes vision
-            if (state.canOcclude()) {
-                return false;
-            }
+    private static boolean isFearOpaque(Level level, BlockPos pos, @Nullable BlockPos targetBlock) {
+        if (pos.equals(targetBlock)) {
+            return false;
         }
-
-        return true;
+        BlockState state = level.getBlockState(pos);
+        return !state.isAir() && !state.is(FloraFaunaTags.Blocks.FEAR_LOS_TRANSPARENT) && state.canOcclude();
     }
 }
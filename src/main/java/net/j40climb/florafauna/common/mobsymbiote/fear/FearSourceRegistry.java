@@ -0,0 +1,257 @@
+package net.j40climb.florafauna.common.mobsymbiote.fear;
+
+import net.j40climb.florafauna.FloraFauna;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.animal.golem.SnowGolem;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Level-scoped index of entities that can scare mobs: cats and ocelots, staring armor
+ * stands, and snow golems, bucketed by chunk section.
+ *
+ * Sources register when they join a level, move buckets when they cross into another
+ * section, and drop out when they leave. A fear check only visits the sections around
+ * the mob, so its cost depends on the sources nearby rather than in the whole dimension.
+ * Armor stands only count while they wear a staring face, and are added or removed
+ * when their head slot changes. Line-of-sight to a source is memoized by
+ * {@link FearSourceDetector#hasLineOfSight}, so a cluster of mobs standing around the
+ * same cat shares one ray march per block pair.
+ */
+@EventBusSubscriber(modid = FloraFauna.MOD_ID)
+public class FearSourceRegistry {
+
+    /**
+     * Kinds of fear source, each feared by one mob type.
+     */
+    public enum Kind {
+        /** Cats and ocelots, feared by creepers */
+        FELINE,
+        /** Armor stands, feared by endermen when wearing a staring face */
+        ARMOR_STAND,
+        /** Snow golems, feared by blazes */
+        SNOW_GOLEM
+    }
+
+    // Sources are bucketed by block position, but their bounding boxes can reach into neighbouring sections
+    private static final double BUCKET_MARGIN = 2.0;
+
+    private static final Map<ResourceKey<Level>, LevelSources> SOURCES = new HashMap<>();
+
+    private FearSourceRegistry() {} // Utility class
+
+    /**
+     * Gets the kind of fear source an entity is, if any, whether or not it is active.
+     */
+    @Nullable
+    public static Kind kindOf(Entity entity) {
+        if (FearSourceDetector.isCreeperFearSource(entity)) {
+            return Kind.FELINE;
+        }
+        if (entity instanceof ArmorStand) {
+            return Kind.ARMOR_STAND;
+        }
+        if (entity instanceof SnowGolem) {
+            return Kind.SNOW_GOLEM;
+        }
+        return null;
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Finds registered sources of a kind whose bounding box intersects the area.
+     * Only the sections around the area are visited.
+     *
+     * @param level  The level to query
+     * @param kind   The kind of source
+     * @param type   The entity class of that kind
+     * @param area   The search area
+     * @param filter Extra condition on each source
+     * @return Matching live sources
+     */
+    public static <T extends Entity> List<T> findSources(ServerLevel level, Kind kind, Class<T> type, AABB area,
+                                                         Predicate<? super T> filter) {
+        LevelSources sources = SOURCES.get(level.dimension());
+        if (sources == null) {
+            return List.of();
+        }
+
+        Map<Long, Set<Entity>> sections = sources.byKind.get(kind);
+        if (sections.isEmpty()) {
+            return List.of();
+        }
+
+        // Sources are bucketed by block position; widen so bounding boxes poking into the area are found
+        int minX = SectionPos.posToSectionCoord(area.minX - BUCKET_MARGIN);
+        int minY = SectionPos.posToSectionCoord(area.minY - BUCKET_MARGIN);
+        int minZ = SectionPos.posToSectionCoord(area.minZ - BUCKET_MARGIN);
+        int maxX = SectionPos.posToSectionCoord(area.maxX + BUCKET_MARGIN);
+        int maxY = SectionPos.posToSectionCoord(area.maxY + BUCKET_MARGIN);
+        int maxZ = SectionPos.posToSectionCoord(area.maxZ + BUCKET_MARGIN);
+
+        List<T> results = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    Set<Entity> bucket = sections.get(SectionPos.asLong(x, y, z));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (Entity entity : bucket) {
+                        if (type.isInstance(entity) && entity.isAlive() && area.intersects(entity.getBoundingBox())) {
+                            T source = type.cast(entity);
+                            if (filter.test(source)) {
+                                results.add(source);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Checks if a source of the given kind currently scares mobs.
+     * Armor stands only do while wearing a staring face.
+     */
+    private static boolean isActive(Entity entity, Kind kind) {
+        return kind != Kind.ARMOR_STAND || (entity instanceof ArmorStand stand && FearSourceDetector.isStaringArmorStand(stand));
+    }
+
+    private static LevelSources getSources(ServerLevel level) {
+        return SOURCES.computeIfAbsent(level.dimension(), key -> new LevelSources());
+    }
+
+    // ==================== EVENTS ====================
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            Kind kind = kindOf(event.getEntity());
+            if (kind != null && isActive(event.getEntity(), kind)) {
+                getSources(serverLevel).add(kind, event.getEntity());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            Kind kind = kindOf(event.getEntity());
+            LevelSources sources = SOURCES.get(serverLevel.dimension());
+            if (kind != null && sources != null) {
+                sources.remove(kind, event.getEntity());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        Entity entity = event.getEntity();
+        if (entity.level() instanceof ServerLevel serverLevel) {
+            Kind kind = kindOf(entity);
+            LevelSources sources = SOURCES.get(serverLevel.dimension());
+            if (kind != null && sources != null) {
+                sources.move(kind, entity, event.getPackedNewPos());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (event.getSlot() == EquipmentSlot.HEAD && event.getEntity() instanceof ArmorStand stand
+                && stand.level() instanceof ServerLevel serverLevel) {
+            if (isActive(stand, Kind.ARMOR_STAND)) {
+                getSources(serverLevel).add(Kind.ARMOR_STAND, stand);
+            } else {
+                LevelSources sources = SOURCES.get(serverLevel.dimension());
+                if (sources != null) {
+                    sources.remove(Kind.ARMOR_STAND, stand);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            SOURCES.remove(serverLevel.dimension());
+        }
+    }
+
+    // ==================== PER-LEVEL STATE ====================
+
+    /**
+     * Registered sources per kind, bucketed by the section they are in.
+     */
+    private static class LevelSources {
+        private final Map<Kind, Map<Long, Set<Entity>>> byKind = new EnumMap<>(Kind.class);
+        private final Map<Entity, Long> sectionBySource = new HashMap<>();
+
+        LevelSources() {
+            for (Kind kind : Kind.values()) {
+                byKind.put(kind, new HashMap<>());
+            }
+        }
+
+        void add(Kind kind, Entity entity) {
+            if (!sectionBySource.containsKey(entity)) {
+                long section = SectionPos.asLong(entity.blockPosition());
+                sectionBySource.put(entity, section);
+                byKind.get(kind).computeIfAbsent(section, key -> new LinkedHashSet<>()).add(entity);
+            }
+        }
+
+        void remove(Kind kind, Entity entity) {
+            Long section = sectionBySource.remove(entity);
+            if (section != null) {
+                removeFromSection(kind, section, entity);
+            }
+        }
+
+        void move(Kind kind, Entity entity, long newSection) {
+            Long section = sectionBySource.get(entity);
+            if (section == null || section == newSection) {
+                return;
+            }
+            removeFromSection(kind, section, entity);
+            sectionBySource.put(entity, newSection);
+            byKind.get(kind).computeIfAbsent(newSection, key -> new LinkedHashSet<>()).add(entity);
+        }
+
+        private void removeFromSection(Kind kind, long section, Entity entity) {
+            Map<Long, Set<Entity>> sections = byKind.get(kind);
+            Set<Entity> bucket = sections.get(section);
+            if (bucket != null) {
+                bucket.remove(entity);
+                if (bucket.isEmpty()) {
+                    sections.remove(section);
+                }
+            }
+        }
+    }
+}
@@ -7,23 +7,21 @@ import net.j40climb.florafauna.common.mobsymbiote.fear.blaze.BlazeFearHandler;
 import net.j40climb.florafauna.common.mobsymbiote.fear.creeper.CreeperFearHandler;
 import net.j40climb.florafauna.common.mobsymbiote.fear.enderman.EndermanFearHandler;
 import net.j40climb.florafauna.common.mobsymbiote.fear.goals.FearAvoidanceGoal;
+import net.j40climb.florafauna.common.mobsymbiote.MobGoalHandles;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteHelper;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
-import net.minecraft.world.entity.ai.goal.WrappedGoal;
 import net.minecraft.world.entity.monster.Blaze;
 import net.minecraft.world.entity.monster.Creeper;
 import net.minecraft.world.entity.monster.EnderMan;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.EntityTeleportEvent;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
 
 import java.util.Optional;
 
 /**
  * Event handler for the fear/stress state machine.
- * Processes fear state transitions for eligible mobs.
+ * Processes fear state transitions for eligible mobs, as scheduled by {@link FearScheduler}.
  */
 @EventBusSubscriber(modid = FloraFauna.MOD_ID)
 public class FearStateEvents {
@@ -39,46 +37,14 @@ public class FearStateEvents {
         }
     }
 
-    /**
-     * Main tick handler for the fear system.
-     * Runs after entity tick to update fear state.
-     */
-    @SubscribeEvent
-    public static void onEntityTick(EntityTickEvent.Post event) {
-        Entity entity = event.getEntity();
-
-        // Only process on server
-        if (entity.level().isClientSide()) {
-            return;
-        }
-
-        // Only process mobs
-        if (!(entity instanceof Mob mob)) {
-            return;
-        }
-
-        // Check tick interval (skip most ticks for performance)
-        long currentTick = entity.level().getGameTime();
-        if (currentTick % Config.fearCheckIntervalTicks != 0) {
-            return;
-        }
-
-        // Only process mobs that can experience fear
-        if (!FearHelper.canExperienceFear(mob)) {
-            return;
-        }
-
-        // Update fear state machine
-        updateFearState(mob, currentTick);
-    }
-
     /**
      * Updates the fear state machine for a mob.
+     * Called by {@link FearScheduler} on the mob's scheduled tick.
      *
      * @param mob         The mob to update
      * @param currentTick Current game tick
      */
-    private static void updateFearState(Mob mob, long currentTick) {
+    static void updateFearState(Mob mob, long currentTick) {
         FearState currentState = FearHelper.getFearState(mob);
         Optional<FearSource> fearSource = FearSourceDetector.detectFearSource(mob, Config.fearSourceDetectionRange);
 
@@ -126,15 +92,15 @@ public class FearStateEvents {
      * The goal will only be active when the mob is scared.
      */
     private static void ensureFearAvoidanceGoal(Mob mob) {
-        // Check if goal already exists
-        for (WrappedGoal wrappedGoal : mob.goalSelector.getAvailableGoals()) {
-            if (wrappedGoal.getGoal() instanceof FearAvoidanceGoal) {
-                return;  // Already has the goal
-            }
+        MobGoalHandles handles = MobGoalHandles.get(mob);
+        if (handles.getFearAvoidanceGoal() != null) {
+            return;  // Already has the goal
         }
 
         // Add the goal
-        mob.goalSelector.addGoal(FEAR_AVOIDANCE_PRIORITY, new FearAvoidanceGoal(mob));
+        FearAvoidanceGoal goal = new FearAvoidanceGoal(mob);
+        mob.goalSelector.addGoal(FEAR_AVOIDANCE_PRIORITY, goal);
+        handles.setFearAvoidanceGoal(goal);
     }
 
     /**
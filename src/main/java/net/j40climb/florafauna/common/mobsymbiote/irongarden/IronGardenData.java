@@ -2,10 +2,9 @@ package net.j40climb.florafauna.common.mobsymbiote.irongarden;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
-import io.netty.buffer.ByteBuf;
+import net.j40climb.florafauna.common.mobsymbiote.TrackedAttachment;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 import java.util.Optional;
 
@@ -68,48 +67,32 @@ public record IronGardenData(
                     .optionalFieldOf("activity", IronGardenActivity.IDLE).forGetter(IronGardenData::activity)
     ).apply(builder, IronGardenData::new));
 
-    public static final StreamCodec<ByteBuf, IronGardenData> STREAM_CODEC = StreamCodec.of(
-            (buf, data) -> {
-                ByteBufCodecs.STRING_UTF8.encode(buf, data.ironGardenState().name());
-                ByteBufCodecs.VAR_LONG.encode(buf, data.stateEnteredTick());
-                ByteBufCodecs.VAR_LONG.encode(buf, data.lastCombatTick());
-                ByteBufCodecs.VAR_INT.encode(buf, data.plantsThisPhase());
-                ByteBufCodecs.VAR_INT.encode(buf, data.harvestsThisPhase());
-                ByteBufCodecs.VAR_INT.encode(buf, data.carriedPoppies());
-                ByteBufCodecs.VAR_INT.encode(buf, data.gardenCenterX());
-                ByteBufCodecs.VAR_INT.encode(buf, data.gardenCenterY());
-                ByteBufCodecs.VAR_INT.encode(buf, data.gardenCenterZ());
-                ByteBufCodecs.BOOL.encode(buf, data.hasGardenCenter());
-                ByteBufCodecs.VAR_INT.encode(buf, data.storageX());
-                ByteBufCodecs.VAR_INT.encode(buf, data.storageY());
-                ByteBufCodecs.VAR_INT.encode(buf, data.storageZ());
-                ByteBufCodecs.BOOL.encode(buf, data.hasStorage());
-                ByteBufCodecs.STRING_UTF8.encode(buf, data.activity().name());
-            },
-            buf -> new IronGardenData(
-                    IronGardenState.valueOf(ByteBufCodecs.STRING_UTF8.decode(buf)),
-                    ByteBufCodecs.VAR_LONG.decode(buf),
-                    ByteBufCodecs.VAR_LONG.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.BOOL.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.VAR_INT.decode(buf),
-                    ByteBufCodecs.BOOL.decode(buf),
-                    IronGardenActivity.valueOf(ByteBufCodecs.STRING_UTF8.decode(buf))
-            )
-    );
-
     public static final IronGardenData DEFAULT = new IronGardenData(
             IronGardenState.UNBONDED, 0L, 0L, 0, 0, 0, 0, 0, 0, false, 0, 0, 0, false,
             IronGardenActivity.IDLE
     );
 
+    /**
+     * Per-field client sync for the {@link TrackedAttachment} holding this data.
+     * Activity changes often while gardening, so it usually travels alone.
+     */
+    public static final TrackedAttachment.SyncFields<IronGardenData> SYNC_FIELDS = new TrackedAttachment.SyncFields<>(DEFAULT)
+            .field(ByteBufCodecs.STRING_UTF8.map(IronGardenState::valueOf, IronGardenState::name), IronGardenData::ironGardenState, IronGardenData::withIronGardenState)
+            .field(ByteBufCodecs.VAR_LONG, IronGardenData::stateEnteredTick, IronGardenData::withStateEnteredTick)
+            .field(ByteBufCodecs.VAR_LONG, IronGardenData::lastCombatTick, IronGardenData::withLastCombatTick)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::plantsThisPhase, IronGardenData::withPlantsThisPhase)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::harvestsThisPhase, IronGardenData::withHarvestsThisPhase)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::carriedPoppies, IronGardenData::withCarriedPoppies)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::gardenCenterX, IronGardenData::withGardenCenterX)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::gardenCenterY, IronGardenData::withGardenCenterY)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::gardenCenterZ, IronGardenData::withGardenCenterZ)
+            .field(ByteBufCodecs.BOOL, IronGardenData::hasGardenCenter, IronGardenData::withHasGardenCenter)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::storageX, IronGardenData::withStorageX)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::storageY, IronGardenData::withStorageY)
+            .field(ByteBufCodecs.VAR_INT, IronGardenData::storageZ, IronGardenData::withStorageZ)
+            .field(ByteBufCodecs.BOOL, IronGardenData::hasStorage, IronGardenData::withHasStorage)
+            .field(ByteBufCodecs.STRING_UTF8.map(IronGardenActivity::valueOf, IronGardenActivity::name), IronGardenData::activity, IronGardenData::withActivity);
+
     /**
      * Transition to a new garden state.
      *
@@ -282,6 +265,86 @@ public record IronGardenData(
         return Optional.empty();
     }
 
+    // ==================== SINGLE-FIELD COPIES (for SYNC_FIELDS) ====================
+
+    private IronGardenData withIronGardenState(IronGardenState value) {
+        return new IronGardenData(value, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withStateEnteredTick(long value) {
+        return new IronGardenData(ironGardenState, value, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withLastCombatTick(long value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, value, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withPlantsThisPhase(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, value, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withHarvestsThisPhase(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, value,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withGardenCenterX(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, value, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withGardenCenterY(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, value, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withGardenCenterZ(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, value, hasGardenCenter,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withHasGardenCenter(boolean value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, value,
+                storageX, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withStorageX(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                value, storageY, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withStorageY(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, value, storageZ, hasStorage, activity);
+    }
+
+    private IronGardenData withStorageZ(int value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, value, hasStorage, activity);
+    }
+
+    private IronGardenData withHasStorage(boolean value) {
+        return new IronGardenData(ironGardenState, stateEnteredTick, lastCombatTick, plantsThisPhase, harvestsThisPhase,
+                carriedPoppies, gardenCenterX, gardenCenterY, gardenCenterZ, hasGardenCenter,
+                storageX, storageY, storageZ, value, activity);
+    }
+
     /**
      * Calculate how many ticks the golem has been in the current state.
      *
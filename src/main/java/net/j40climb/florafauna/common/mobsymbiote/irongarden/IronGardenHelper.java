@@ -2,6 +2,7 @@ package net.j40climb.florafauna.common.mobsymbiote.irongarden;
 
 import net.j40climb.florafauna.Config;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteData;
+import net.j40climb.florafauna.common.mobsymbiote.TrackedAttachment;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Entity;
@@ -33,17 +34,18 @@ public final class IronGardenHelper {
         if (!(entity instanceof IronGolem)) {
             return IronGardenData.DEFAULT;
         }
-        return entity.getData(FloraFaunaRegistry.IRON_GARDEN_DATA);
+        return entity.getData(FloraFaunaRegistry.IRON_GARDEN_DATA).get();
     }
 
     /**
      * Set the iron garden data for an Iron Golem.
+     * Changes within a tick are synced to clients once, at the end of the tick.
      *
      * @param golem The golem to set data on
      * @param data The new iron garden data
      */
     public static void setData(IronGolem golem, IronGardenData data) {
-        golem.setData(FloraFaunaRegistry.IRON_GARDEN_DATA, data);
+        TrackedAttachment.set(golem, FloraFaunaRegistry.IRON_GARDEN_DATA, data);
     }
 
     /**
@@ -57,7 +59,7 @@ public final class IronGardenHelper {
         if (!(entity instanceof IronGolem)) {
             return false;
         }
-        MobSymbioteData symbioteData = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
+        MobSymbioteData symbioteData = entity.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA).get();
         return symbioteData.hasMobSymbiote();
     }
 
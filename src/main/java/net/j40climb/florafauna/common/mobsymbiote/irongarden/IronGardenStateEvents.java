@@ -2,6 +2,7 @@ package net.j40climb.florafauna.common.mobsymbiote.irongarden;
 
 import net.j40climb.florafauna.Config;
 import net.j40climb.florafauna.FloraFauna;
+import net.j40climb.florafauna.common.mobsymbiote.MobGoalHandles;
 import net.j40climb.florafauna.common.mobsymbiote.irongarden.goals.DepositHarvestGoal;
 import net.j40climb.florafauna.common.mobsymbiote.irongarden.goals.HarvestPoppyGoal;
 import net.j40climb.florafauna.common.mobsymbiote.irongarden.goals.IronGardenWanderGoal;
@@ -11,7 +12,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.ai.goal.WrappedGoal;
+import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.animal.golem.IronGolem;
 import net.minecraft.world.level.block.Blocks;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -19,6 +20,8 @@ import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.entity.living.LivingDamageEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
 
+import java.util.List;
+
 /**
  * Event handler for the Iron Garden state machine.
  * Manages state transitions and goal injection for gardening Iron Golems.
@@ -175,44 +178,34 @@ public class IronGardenStateEvents {
      * Ensures the golem has all gardening goals injected.
      */
     private static void ensureGardeningGoals(IronGolem golem) {
-        boolean hasWanderGoal = false;
-        boolean hasPlantGoal = false;
-        boolean hasHarvestGoal = false;
-        boolean hasDepositGoal = false;
-
-        // Check existing goals
-        for (WrappedGoal wrappedGoal : golem.goalSelector.getAvailableGoals()) {
-            if (wrappedGoal.getGoal() instanceof IronGardenWanderGoal) hasWanderGoal = true;
-            if (wrappedGoal.getGoal() instanceof PlantPoppyGoal) hasPlantGoal = true;
-            if (wrappedGoal.getGoal() instanceof HarvestPoppyGoal) hasHarvestGoal = true;
-            if (wrappedGoal.getGoal() instanceof DepositHarvestGoal) hasDepositGoal = true;
+        MobGoalHandles handles = MobGoalHandles.get(golem);
+        if (handles.hasGardeningGoals()) {
+            return;
         }
 
-        // Add missing goals
-        if (!hasWanderGoal) {
-            golem.goalSelector.addGoal(WANDER_PRIORITY, new IronGardenWanderGoal(golem));
-        }
-        if (!hasPlantGoal) {
-            golem.goalSelector.addGoal(PLANT_PRIORITY, new PlantPoppyGoal(golem));
-        }
-        if (!hasHarvestGoal) {
-            golem.goalSelector.addGoal(HARVEST_PRIORITY, new HarvestPoppyGoal(golem));
-        }
-        if (!hasDepositGoal) {
-            golem.goalSelector.addGoal(DEPOSIT_PRIORITY, new DepositHarvestGoal(golem));
-        }
+        Goal wander = new IronGardenWanderGoal(golem);
+        Goal plant = new PlantPoppyGoal(golem);
+        Goal harvest = new HarvestPoppyGoal(golem);
+        Goal deposit = new DepositHarvestGoal(golem);
+        golem.goalSelector.addGoal(WANDER_PRIORITY, wander);
+        golem.goalSelector.addGoal(PLANT_PRIORITY, plant);
+        golem.goalSelector.addGoal(HARVEST_PRIORITY, harvest);
+        golem.goalSelector.addGoal(DEPOSIT_PRIORITY, deposit);
+        handles.setGardeningGoals(List.of(wander, plant, harvest, deposit));
     }
 
     /**
      * Removes all gardening goals from the golem.
      */
     private static void removeGardeningGoals(IronGolem golem) {
-        golem.goalSelector.getAvailableGoals().removeIf(wrappedGoal ->
-                wrappedGoal.getGoal() instanceof IronGardenWanderGoal ||
-                wrappedGoal.getGoal() instanceof PlantPoppyGoal ||
-                wrappedGoal.getGoal() instanceof HarvestPoppyGoal ||
-                wrappedGoal.getGoal() instanceof DepositHarvestGoal
-        );
+        MobGoalHandles handles = MobGoalHandles.getExisting(golem);
+        if (handles == null || !handles.hasGardeningGoals()) {
+            return;
+        }
+        for (Goal goal : handles.getGardeningGoals()) {
+            golem.goalSelector.removeGoal(goal);
+        }
+        handles.setGardeningGoals(List.of());
     }
 
     /**
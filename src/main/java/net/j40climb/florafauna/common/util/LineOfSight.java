@@ -0,0 +1,141 @@
+package net.j40climb.florafauna.common.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Line-of-sight checks by exact voxel traversal (Amanatides-Woo).
+ *
+ * The segment is walked one block at a time, so every block it passes through,
+ * including diagonal corners, is visited exactly once, and the walk stops at the
+ * first opaque block. Opacity is pluggable, so fear detection and mob barriers
+ * share the traversal while deciding differently what blocks a view.
+ */
+public final class LineOfSight {
+
+    private LineOfSight() {
+        // Utility class
+    }
+
+    /**
+     * Decides whether a block on the segment blocks line-of-sight.
+     *
+     * @param <C> Caller-supplied context (e.g. the viewing mob), passed through unchanged
+     */
+    @FunctionalInterface
+    public interface OpacityTest<C> {
+        boolean isOpaque(Level level, BlockPos pos, C context);
+    }
+
+    /**
+     * Checks if nothing opaque lies on the segment from start to end.
+     * Both end blocks are tested; make the test skip them if they should not count.
+     *
+     * @param level   The level to check in
+     * @param start   Segment start (e.g. a mob's eye)
+     * @param end     Segment end (e.g. the target's eye)
+     * @param test    Decides which blocks are opaque
+     * @param context Passed to the test for every block
+     * @return true if no block on the segment is opaque
+     */
+    public static <C> boolean isClear(Level level, Vec3 start, Vec3 end, OpacityTest<C> test, C context) {
+        double dx = end.x - start.x;
+        double dy = end.y - start.y;
+        double dz = end.z - start.z;
+
+        int x = Mth.floor(start.x);
+        int y = Mth.floor(start.y);
+        int z = Mth.floor(start.z);
+        int endX = Mth.floor(end.x);
+        int endY = Mth.floor(end.y);
+        int endZ = Mth.floor(end.z);
+
+        int stepX = (int) Math.signum(dx);
+        int stepY = (int) Math.signum(dy);
+        int stepZ = (int) Math.signum(dz);
+
+        // Ray parameter t runs from 0 (start) to 1 (end)
+        double tDeltaX = stepX == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dx);
+        double tDeltaY = stepY == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dy);
+        double tDeltaZ = stepZ == 0 ? Double.MAX_VALUE : 1.0 / Math.abs(dz);
+        double tMaxX = stepX == 0 ? Double.MAX_VALUE : (stepX > 0 ? x + 1 - start.x : start.x - x) * tDeltaX;
+        double tMaxY = stepY == 0 ? Double.MAX_VALUE : (stepY > 0 ? y + 1 - start.y : start.y - y) * tDeltaY;
+        double tMaxZ = stepZ == 0 ? Double.MAX_VALUE : (stepZ > 0 ? z + 1 - start.z : start.z - z) * tDeltaZ;
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int maxSteps = Math.abs(endX - x) + Math.abs(endY - y) + Math.abs(endZ - z);
+        for (int i = 0; i <= maxSteps; i++) {
+            if (test.isOpaque(level, pos.set(x, y, z), context)) {
+                return false;
+            }
+
+            // Step into whichever neighbouring voxel the ray reaches first
+            if (tMaxX < tMaxY && tMaxX < tMaxZ) {
+                x += stepX;
+                tMaxX += tDeltaX;
+            } else if (tMaxY < tMaxZ) {
+                y += stepY;
+                tMaxY += tDeltaY;
+            } else {
+                z += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Short-lived line-of-sight results keyed by (start block, end block).
+     *
+     * Only use a cache with an opacity test whose answer depends on nothing but
+     * the blocks themselves; context that varies per caller (such as which mob is
+     * looking) would be shared between callers. The whole cache is dropped every
+     * {@code ttlTicks}, so block changes are picked up within that window.
+     */
+    public static final class Cache {
+        private static final int MAX_ENTRIES = 4096;
+
+        private record BlockPair(ResourceKey<Level> dimension, long start, long end) {}
+
+        private final int ttlTicks;
+        private final Map<BlockPair, Boolean> results = new HashMap<>();
+        private long windowStartTick = 0;
+
+        /**
+         * @param ttlTicks How long a result may be reused
+         */
+        public Cache(int ttlTicks) {
+            this.ttlTicks = ttlTicks;
+        }
+
+        /**
+         * Same as {@link LineOfSight#isClear}, reusing a recent result for the same pair of blocks.
+         */
+        public <C> boolean isClear(Level level, Vec3 start, Vec3 end, OpacityTest<C> test, C context) {
+            long currentTick = level.getGameTime();
+            if (currentTick - windowStartTick >= ttlTicks || currentTick < windowStartTick || results.size() >= MAX_ENTRIES) {
+                results.clear();
+                windowStartTick = currentTick;
+            }
+
+            BlockPair key = new BlockPair(level.dimension(),
+                    BlockPos.asLong(Mth.floor(start.x), Mth.floor(start.y), Mth.floor(start.z)),
+                    BlockPos.asLong(Mth.floor(end.x), Mth.floor(end.y), Mth.floor(end.z)));
+            Boolean cached = results.get(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            boolean clear = LineOfSight.isClear(level, start, end, test, context);
+            results.put(key, clear);
+            return clear;
+        }
+    }
+}
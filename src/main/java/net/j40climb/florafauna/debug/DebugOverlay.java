@@ -247,7 +247,7 @@ public class DebugOverlay implements GuiLayer {
 
         // Check for MobSymbiote data
         if (mob.hasData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA)) {
-            MobSymbioteData symbioteData = mob.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA);
+            MobSymbioteData symbioteData = mob.getData(FloraFaunaRegistry.MOB_SYMBIOTE_DATA).get();
             if (symbioteData.hasMobSymbiote()) {
                 lines.add(new DebugLine("-- MobSymbiote --", headerColor));
                 lines.add(new DebugLine("Level: " + symbioteData.mobSymbioteLevel(), enabledColor));
@@ -264,7 +264,7 @@ public class DebugOverlay implements GuiLayer {
 
         // Check for Fear data
         if (mob.hasData(FloraFaunaRegistry.FEAR_DATA)) {
-            FearData fearData = mob.getData(FloraFaunaRegistry.FEAR_DATA);
+            FearData fearData = mob.getData(FloraFaunaRegistry.FEAR_DATA).get();
             FearState state = fearData.fearState();
 
             lines.add(new DebugLine("-- Fear State --", headerColor));
@@ -314,7 +314,7 @@ public class DebugOverlay implements GuiLayer {
 
         // Check for Iron Garden data (Iron Golems only)
         if (mob instanceof IronGolem golem && mob.hasData(FloraFaunaRegistry.IRON_GARDEN_DATA)) {
-            IronGardenData gardenData = mob.getData(FloraFaunaRegistry.IRON_GARDEN_DATA);
+            IronGardenData gardenData = mob.getData(FloraFaunaRegistry.IRON_GARDEN_DATA).get();
             IronGardenState state = gardenData.ironGardenState();
 
             // Only show if the golem is bonded (participating in iron garden)
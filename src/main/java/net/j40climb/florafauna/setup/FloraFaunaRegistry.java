@@ -29,8 +29,10 @@ import net.j40climb.florafauna.common.block.mobtransport.MobOutputBlock;
 import net.j40climb.florafauna.common.block.mobtransport.MobOutputBlockEntity;
 import net.j40climb.florafauna.common.mobsymbiote.fear.FearData;
 import net.j40climb.florafauna.common.mobsymbiote.irongarden.IronGardenData;
+import net.j40climb.florafauna.common.mobsymbiote.MobGoalHandles;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteData;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteItem;
+import net.j40climb.florafauna.common.mobsymbiote.TrackedAttachment;
 import net.j40climb.florafauna.common.block.vacuum.BlockDropData;
 import net.j40climb.florafauna.common.block.vacuum.ClaimedItemData;
 import net.j40climb.florafauna.common.block.iteminput.fieldrelay.FieldRelayBlock;
@@ -481,27 +483,32 @@ public class FloraFaunaRegistry {
                             .build());
 
     // Mob symbiote attachment (for marking mobs as bonded for capture)
-    public static final Supplier<AttachmentType<MobSymbioteData>> MOB_SYMBIOTE_DATA =
+    public static final Supplier<AttachmentType<TrackedAttachment<MobSymbioteData>>> MOB_SYMBIOTE_DATA =
             ATTACHMENT_TYPES.register("mob_symbiote_data", () ->
-                    AttachmentType.builder(() -> MobSymbioteData.DEFAULT)
-                            .serialize(MobSymbioteData.CODEC.fieldOf("mob_symbiote_data"))
-                            .sync(MobSymbioteData.STREAM_CODEC)
+                    AttachmentType.builder(() -> new TrackedAttachment<>(MobSymbioteData.DEFAULT))
+                            .serialize(TrackedAttachment.codec(MobSymbioteData.CODEC, "mob_symbiote_data"))
+                            .sync(MobSymbioteData.SYNC_FIELDS)
                             .build());
 
+    // Transient handles to mod-installed AI goals (not saved or synced)
+    public static final Supplier<AttachmentType<MobGoalHandles>> MOB_GOAL_HANDLES =
+            ATTACHMENT_TYPES.register("mob_goal_handles", () ->
+                    AttachmentType.builder(MobGoalHandles::new).build());
+
     // Fear system attachment (for fear/stress state tracking)
-    public static final Supplier<AttachmentType<FearData>> FEAR_DATA =
+    public static final Supplier<AttachmentType<TrackedAttachment<FearData>>> FEAR_DATA =
             ATTACHMENT_TYPES.register("fear_data", () ->
-                    AttachmentType.builder(() -> FearData.DEFAULT)
-                            .serialize(FearData.CODEC.fieldOf("fear_data"))
-                            .sync(FearData.STREAM_CODEC)
+                    AttachmentType.builder(() -> new TrackedAttachment<>(FearData.DEFAULT))
+                            .serialize(TrackedAttachment.codec(FearData.CODEC, "fear_data"))
+                            .sync(FearData.SYNC_FIELDS)
                             .build());
 
     // Iron Garden system attachment (for iron golem gardening state)
-    public static final Supplier<AttachmentType<IronGardenData>> IRON_GARDEN_DATA =
+    public static final Supplier<AttachmentType<TrackedAttachment<IronGardenData>>> IRON_GARDEN_DATA =
             ATTACHMENT_TYPES.register("iron_garden_data", () ->
-                    AttachmentType.builder(() -> IronGardenData.DEFAULT)
-                            .serialize(IronGardenData.CODEC.fieldOf("iron_garden_data"))
-                            .sync(IronGardenData.STREAM_CODEC)
+                    AttachmentType.builder(() -> new TrackedAttachment<>(IronGardenData.DEFAULT))
+                            .serialize(TrackedAttachment.codec(IronGardenData.CODEC, "iron_garden_data"))
+                            .sync(IronGardenData.SYNC_FIELDS)
                             .build());
 
     // ==================== HELPER METHODS ====================
@@ -7,6 +7,8 @@ import net.j40climb.florafauna.common.block.cocoonchamber.networking.OpenCocoonS
 import net.j40climb.florafauna.common.block.iteminput.rootiteminput.networking.ItemInputAnimationPayload;
 import net.j40climb.florafauna.common.block.mininganchor.networking.AnchorFillStatePayload;
 import net.j40climb.florafauna.common.block.mobbarrier.networking.UpdateMobBarrierConfigPayload;
+import net.j40climb.florafauna.common.block.vacuum.networking.ItemBufferDeltaPayload;
+import net.j40climb.florafauna.common.block.vacuum.networking.ItemBufferResyncPayload;
 import net.j40climb.florafauna.common.block.wood.WoodBlockSet;
 import net.j40climb.florafauna.common.block.wood.WoodType;
 import net.j40climb.florafauna.common.entity.frenchie.frontpack.networking.PutDownFrenchiePayload;
@@ -110,12 +112,14 @@ public class FloraFaunaSetup {
         registrar.playToServer(ThrowItemPayload.TYPE, ThrowItemPayload.STREAM_CODEC, ThrowItemPayload::onServerReceived);
         registrar.playToServer(CycleMiningModePayload.TYPE, CycleMiningModePayload.STREAM_CODEC, CycleMiningModePayload::onServerReceived);
         registrar.playToServer(UpdateMobBarrierConfigPayload.TYPE, UpdateMobBarrierConfigPayload.STREAM_CODEC, UpdateMobBarrierConfigPayload::onServerReceived);
+        registrar.playToServer(ItemBufferResyncPayload.TYPE, ItemBufferResyncPayload.STREAM_CODEC, ItemBufferResyncPayload::onServerReceived);
         registrar.playToServer(net.j40climb.florafauna.noclip.NoClipPayload.TYPE, net.j40climb.florafauna.noclip.NoClipPayload.STREAM_CODEC, net.j40climb.florafauna.noclip.NoClipPayload::onServerReceived);
 
         // Server to client
         registrar.playToClient(ItemInputAnimationPayload.TYPE, ItemInputAnimationPayload.STREAM_CODEC, ItemInputAnimationPayload::onClientReceived);
         registrar.playToClient(OpenCocoonScreenPayload.TYPE, OpenCocoonScreenPayload.STREAM_CODEC, OpenCocoonScreenPayload::onClientReceived);
         registrar.playToClient(AnchorFillStatePayload.TYPE, AnchorFillStatePayload.STREAM_CODEC, AnchorFillStatePayload::handleClient);
+        registrar.playToClient(ItemBufferDeltaPayload.TYPE, ItemBufferDeltaPayload.STREAM_CODEC, ItemBufferDeltaPayload::onClientReceived);
     }
 
     // ==================== COMMANDS ====================
@@ -1,17 +1,27 @@
 package net.j40climb.florafauna.test;
 
+import io.netty.buffer.Unpooled;
+import net.j40climb.florafauna.Config;
 import net.j40climb.florafauna.FloraFauna;
 import net.j40climb.florafauna.common.block.containmentchamber.ContainmentChamberBlockEntity;
 import net.j40climb.florafauna.common.block.husk.HuskType;
+import net.j40climb.florafauna.common.block.iteminput.rootiteminput.ItemInputBlockEntity;
+import net.j40climb.florafauna.common.block.iteminput.storageanchor.CachedDestination;
+import net.j40climb.florafauna.common.block.iteminput.storageanchor.StorageAnchorBlockEntity;
 import net.j40climb.florafauna.common.block.mininganchor.AnchorFillState;
+import net.j40climb.florafauna.common.block.mininganchor.PodSpawnRing;
 import net.j40climb.florafauna.common.block.mininganchor.Tier1MiningAnchorBlockEntity;
 import net.j40climb.florafauna.common.block.mininganchor.Tier2MiningAnchorBlockEntity;
 import net.j40climb.florafauna.common.block.mininganchor.pod.PodItemHandler;
 import net.j40climb.florafauna.common.block.mininganchor.pod.Tier1PodBlockEntity;
 import net.j40climb.florafauna.common.block.mininganchor.pod.Tier2PodBlockEntity;
+import net.j40climb.florafauna.common.block.mobbarrier.MobBarrierBlockEntity;
 import net.j40climb.florafauna.common.block.mobbarrier.data.MobBarrierConfig;
 import net.j40climb.florafauna.common.block.vacuum.BufferTransfer;
+import net.j40climb.florafauna.common.block.vacuum.AbstractVacuumBlockEntity;
 import net.j40climb.florafauna.common.block.vacuum.ClaimedItemData;
+import net.j40climb.florafauna.common.block.vacuum.VacuumState;
+import net.j40climb.florafauna.common.block.vacuum.ClaimedItemQueue;
 import net.j40climb.florafauna.common.block.vacuum.ItemBuffer;
 import net.j40climb.florafauna.common.item.abilities.data.MiningModeData;
 import net.j40climb.florafauna.common.item.abilities.data.MiningShape;
@@ -26,26 +36,40 @@ import net.j40climb.florafauna.common.symbiote.data.SymbioteState;
 import net.j40climb.florafauna.common.block.mobtransport.CapturedMobBuffer;
 import net.j40climb.florafauna.common.block.mobtransport.CapturedMobTicket;
 import net.j40climb.florafauna.common.block.mobtransport.MobCaptureEligibility;
+import net.j40climb.florafauna.common.block.mobtransport.MobInputBlockEntity;
+import net.j40climb.florafauna.common.block.mobtransport.MobOutputBlockEntity;
+import net.j40climb.florafauna.common.block.mobtransport.MobTransportNetwork;
+import net.j40climb.florafauna.common.mobsymbiote.fear.FearBlockIndex;
 import net.j40climb.florafauna.common.mobsymbiote.fear.FearData;
+import net.j40climb.florafauna.common.mobsymbiote.fear.FearHelper;
+import net.j40climb.florafauna.common.mobsymbiote.fear.FearScheduler;
 import net.j40climb.florafauna.common.mobsymbiote.fear.FearSourceDetector;
+import net.j40climb.florafauna.common.mobsymbiote.fear.FearSourceRegistry;
 import net.j40climb.florafauna.common.mobsymbiote.fear.FearState;
 import net.j40climb.florafauna.common.mobsymbiote.irongarden.IronGardenData;
 import net.j40climb.florafauna.common.mobsymbiote.irongarden.IronGardenHelper;
 import net.j40climb.florafauna.common.mobsymbiote.irongarden.IronGardenState;
 import net.j40climb.florafauna.common.util.AreaScanner;
+import net.j40climb.florafauna.common.util.LineOfSight;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteData;
 import net.j40climb.florafauna.common.mobsymbiote.MobSymbioteHelper;
+import net.j40climb.florafauna.common.mobsymbiote.TrackedAttachment;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.j40climb.florafauna.common.symbiote.voice.VoiceCooldownState;
 import net.j40climb.florafauna.common.symbiote.voice.VoiceTier;
 import net.j40climb.florafauna.setup.FloraFaunaRegistry;
+import net.j40climb.florafauna.setup.FloraFaunaTags;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.transfer.ResourceHandler;
 import net.neoforged.neoforge.transfer.item.ItemResource;
 import net.neoforged.neoforge.transfer.transaction.Transaction;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.Holder;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -55,13 +79,31 @@ import net.minecraft.gametest.framework.TestData;
 import net.minecraft.gametest.framework.TestEnvironmentDefinition;
 import net.minecraft.resources.Identifier;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.monster.Creeper;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.pathfinder.PathType;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.neoforge.event.RegisterGameTestsEvent;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -424,6 +466,9 @@ public class FloraFaunaGameTests {
         registerTest(event, env, "item_buffer_overflow_to_new_slot", FloraFaunaGameTests::testItemBufferOverflowToNewSlot);
         registerTest(event, env, "item_buffer_peek_no_remove", FloraFaunaGameTests::testItemBufferPeekNoRemove);
         registerTest(event, env, "item_buffer_clear", FloraFaunaGameTests::testItemBufferClear);
+        registerTest(event, env, "item_buffer_slot_bookkeeping", FloraFaunaGameTests::testItemBufferSlotBookkeeping);
+        registerTest(event, env, "item_buffer_changed_slots", FloraFaunaGameTests::testItemBufferChangedSlots);
+        registerTest(event, env, "item_buffer_lent_stack_components", FloraFaunaGameTests::testItemBufferLentStackComponents);
     }
 
     private static void testItemBufferInitialState(GameTestHelper helper) {
@@ -656,6 +701,9 @@ public class FloraFaunaGameTests {
         registerTest(event, env, "claimed_data_initial_state", FloraFaunaGameTests::testClaimedDataInitialState);
         registerTest(event, env, "claimed_data_animation_progress", FloraFaunaGameTests::testClaimedDataAnimationProgress);
         registerTest(event, env, "claimed_data_animation_completion", FloraFaunaGameTests::testClaimedDataAnimationCompletion);
+        registerTest(event, env, "claimed_queue_deadline_order", FloraFaunaGameTests::testClaimedQueueDeadlineOrder);
+        registerTest(event, env, "vacuum_collects_only_covered_items", FloraFaunaGameTests::testVacuumCollectsOnlyCoveredItems);
+        registerTest(event, env, "vacuum_recovers_claims_after_reload", FloraFaunaGameTests::testVacuumRecoversClaimsAfterReload);
     }
 
     private static void testClaimedDataInitialState(GameTestHelper helper) {
@@ -724,6 +772,116 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testClaimedQueueDeadlineOrder(GameTestHelper helper) {
+        ClaimedItemQueue queue = new ClaimedItemQueue();
+        queue.add(1, 140);
+        queue.add(2, 120);
+        queue.add(3, 160);
+
+        // Duplicate registration is ignored
+        if (queue.add(2, 200)) {
+            throw helper.assertionException("Re-adding a registered entity should be ignored");
+        }
+
+        // Nothing due before the earliest deadline
+        if (!queue.pollDue(119).isEmpty()) {
+            throw helper.assertionException("No claims should be due at tick 119");
+        }
+
+        // Due claims come out in deadline order
+        List<ClaimedItemQueue.PendingClaim> due = queue.pollDue(140);
+        if (due.size() != 2 || due.get(0).entityId() != 2 || due.get(1).entityId() != 1) {
+            throw helper.assertionException("Expected entities [2, 1] due at tick 140, got: " + due);
+        }
+        if (!queue.pollDue(140).isEmpty()) {
+            throw helper.assertionException("Polled claims should not be due again");
+        }
+
+        // Draining releases only the pending claim and empties the queue
+        List<ClaimedItemQueue.PendingClaim> remaining = queue.drainAll();
+        if (remaining.size() != 1 || remaining.get(0).entityId() != 3 || !queue.isEmpty()) {
+            throw helper.assertionException("Drain should return only entity 3 and empty the queue, got: " + remaining);
+        }
+
+        helper.succeed();
+    }
+
+    private static void testVacuumCollectsOnlyCoveredItems(GameTestHelper helper) {
+        helper.setBlock(new BlockPos(0, 1, 0), FloraFaunaRegistry.ITEM_INPUT.get().defaultBlockState());
+
+        // One item inside the collect area, one a section beyond it
+        ItemEntity nearItem = helper.spawnItem(Items.DIAMOND, new BlockPos(0, 2, 0));
+        ItemEntity farItem = helper.spawnItem(Items.EMERALD, new BlockPos(Config.collectRadius + 16, 2, 0));
+        nearItem.setNoGravity(true);
+        farItem.setNoGravity(true);
+
+        helper.runAfterDelay(30, () -> {
+            if (!isClaimedOrAbsorbed(nearItem)) {
+                throw helper.assertionException("Item inside the collect area should have been claimed");
+            }
+            if (isClaimedOrAbsorbed(farItem)) {
+                throw helper.assertionException("Item outside the collect area should be ignored");
+            }
+
+            // Moving the far item into range must re-index it under its new section
+            farItem.setPos(Vec3.atCenterOf(helper.absolutePos(new BlockPos(0, 2, 1))));
+        });
+
+        helper.runAfterDelay(70, () -> {
+            if (!isClaimedOrAbsorbed(farItem)) {
+                throw helper.assertionException("Item moved into the collect area should have been claimed");
+            }
+            helper.succeed();
+        });
+    }
+
+    private static void testVacuumRecoversClaimsAfterReload(GameTestHelper helper) {
+        BlockPos vacuumPos = new BlockPos(0, 1, 0);
+        helper.setBlock(vacuumPos, FloraFaunaRegistry.ITEM_INPUT.get().defaultBlockState());
+
+        // An item claimed by the vacuum before its chunk unloaded, still loaded nearby
+        ItemEntity itemEntity = helper.spawnItem(Items.DIAMOND, new BlockPos(1, 2, 0));
+        itemEntity.setNoGravity(true);
+        itemEntity.setPickUpDelay(Integer.MAX_VALUE);
+        itemEntity.setData(FloraFaunaRegistry.CLAIMED_ITEM_DATA, ClaimedItemData.create(
+                helper.absolutePos(vacuumPos), helper.getLevel().getGameTime(), Config.animationDurationTicks));
+
+        // Reload the vacuum from its saved data; the claimed item never rejoins the level
+        AbstractVacuumBlockEntity vacuum = reloadBlockEntity(helper, vacuumPos, AbstractVacuumBlockEntity.class);
+
+        helper.runAfterDelay(Config.animationDurationTicks + Config.collectIntervalTicks + 5, () -> {
+            if (!itemEntity.isRemoved()) {
+                throw helper.assertionException("Reloaded vacuum should absorb the item it claimed before the reload");
+            }
+            if (vacuum.getBuffer().isEmpty()) {
+                throw helper.assertionException("Absorbed item should be in the reloaded vacuum's buffer");
+            }
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Replaces a block entity with a fresh copy loaded from its saved data, as a chunk reload would.
+     */
+    private static <T extends BlockEntity> T reloadBlockEntity(GameTestHelper helper, BlockPos relativePos, Class<T> type) {
+        BlockPos pos = helper.absolutePos(relativePos);
+        BlockEntity original = helper.getBlockEntity(relativePos, type);
+        CompoundTag saved = original.saveWithFullMetadata(helper.getLevel().registryAccess());
+        helper.getLevel().removeBlockEntity(pos);
+
+        BlockEntity reloaded = BlockEntity.loadStatic(pos, helper.getLevel().getBlockState(pos), saved,
+                helper.getLevel().registryAccess());
+        if (!type.isInstance(reloaded)) {
+            throw helper.assertionException("Block entity at " + relativePos + " did not reload");
+        }
+        helper.getLevel().setBlockEntity(reloaded);
+        return type.cast(reloaded);
+    }
+
+    private static boolean isClaimedOrAbsorbed(ItemEntity itemEntity) {
+        return itemEntity.isRemoved() || itemEntity.getData(FloraFaunaRegistry.CLAIMED_ITEM_DATA).claimed();
+    }
+
     // ==================== Pod Item Handler Tests ====================
 
     private static void registerPodItemHandlerTests(RegisterGameTestsEvent event, Holder<TestEnvironmentDefinition> env) {
@@ -986,6 +1144,94 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testItemBufferSlotBookkeeping(GameTestHelper helper) {
+        ItemBuffer buffer = new ItemBuffer(3);
+        buffer.add(new ItemStack(Items.COBBLESTONE, 64));
+        buffer.add(new ItemStack(Items.DIRT, 10));
+
+        // Poll advances the first-non-empty cursor
+        buffer.poll();
+        if (buffer.getFirstNonEmptySlot() != 1) {
+            throw helper.assertionException("First non-empty slot should be 1 after poll, got: " + buffer.getFirstNonEmptySlot());
+        }
+
+        // New items fill the lowest free slot, merges go to the partial stack
+        buffer.add(new ItemStack(Items.STONE, 5));
+        buffer.add(new ItemStack(Items.DIRT, 5));
+        if (buffer.getStack(0).getItem() != Items.STONE || buffer.getStack(1).getCount() != 15) {
+            throw helper.assertionException("Stone should reuse slot 0 and dirt should merge into slot 1");
+        }
+
+        // Shrinking a slot to zero frees it and updates totals
+        buffer.shrinkStack(0, 5);
+        if (buffer.getTotalItemCount() != 15 || buffer.getUsedSlots() != 1 || buffer.getFirstNonEmptySlot() != 1) {
+            throw helper.assertionException("Bookkeeping out of sync after shrinkStack: total=" + buffer.getTotalItemCount()
+                    + " used=" + buffer.getUsedSlots() + " first=" + buffer.getFirstNonEmptySlot());
+        }
+
+        // Filling the remaining space makes the buffer full
+        buffer.add(new ItemStack(Items.DIRT, 49 + 64 + 64));
+        if (!buffer.isFull() || buffer.canAccept(new ItemStack(Items.DIRT))) {
+            throw helper.assertionException("Buffer should be full after filling every slot");
+        }
+
+        // Shrinking a live stack in place is picked up by the next call
+        buffer.getStack(1).shrink(1);
+        if (buffer.isFull() || !buffer.canAccept(new ItemStack(Items.DIRT)) || buffer.getTotalItemCount() != 191) {
+            throw helper.assertionException("In-place shrink should free space, total=" + buffer.getTotalItemCount());
+        }
+
+        helper.succeed();
+    }
+
+    private static void testItemBufferLentStackComponents(GameTestHelper helper) {
+        ItemBuffer buffer = new ItemBuffer(2);
+        buffer.add(new ItemStack(Items.STONE, 10));
+
+        // getStacks hands out copies, so changing them leaves the buffer alone
+        buffer.getStacks().get(0).grow(5);
+        if (buffer.getTotalItemCount() != 10) {
+            throw helper.assertionException("Changing a getStacks copy should not affect the buffer, total="
+                    + buffer.getTotalItemCount());
+        }
+
+        // Renaming a live stack keeps its count but changes its merge key
+        buffer.getStack(0).set(DataComponents.CUSTOM_NAME, Component.literal("Named"));
+        buffer.add(new ItemStack(Items.STONE, 5));
+        if (buffer.getStack(0).getCount() != 10 || buffer.getStack(1).getCount() != 5) {
+            throw helper.assertionException("Plain stone should not merge into the renamed stack, got: "
+                    + buffer.getStack(0).getCount() + " and " + buffer.getStack(1).getCount());
+        }
+
+        helper.succeed();
+    }
+
+    private static void testItemBufferChangedSlots(GameTestHelper helper) {
+        ItemBuffer buffer = new ItemBuffer(4);
+        buffer.add(new ItemStack(Items.COBBLESTONE, 10));
+        buffer.add(new ItemStack(Items.DIRT, 10));
+        buffer.takeChangedSlots();
+
+        // Only the touched slot is reported, and taking the set resets it
+        buffer.add(new ItemStack(Items.DIRT, 5));
+        int[] changed = buffer.takeChangedSlots();
+        if (changed.length != 1 || changed[0] != 1) {
+            throw helper.assertionException("Only slot 1 should be reported changed, got: " + Arrays.toString(changed));
+        }
+        if (buffer.hasChangedSlots()) {
+            throw helper.assertionException("Changed slots should be empty after takeChangedSlots");
+        }
+
+        // Emptying a slot is a change too
+        buffer.poll();
+        changed = buffer.takeChangedSlots();
+        if (changed.length != 1 || changed[0] != 0) {
+            throw helper.assertionException("Polling slot 0 should report it changed, got: " + Arrays.toString(changed));
+        }
+
+        helper.succeed();
+    }
+
     // ==================== Mining Mode Tests ====================
 
     private static void registerMiningModeTests(RegisterGameTestsEvent event, Holder<TestEnvironmentDefinition> env) {
@@ -1113,6 +1359,7 @@ public class FloraFaunaGameTests {
         registerTest(event, env, "mob_barrier_config_validation", FloraFaunaGameTests::testMobBarrierConfigValidation);
         registerTest(event, env, "mob_barrier_blocks_configured_entity", FloraFaunaGameTests::testMobBarrierBlocksConfiguredEntity);
         registerTest(event, env, "mob_barrier_allows_unconfigured_entity", FloraFaunaGameTests::testMobBarrierAllowsUnconfiguredEntity);
+        registerTest(event, env, "mob_barrier_path_type_uses_index", FloraFaunaGameTests::testMobBarrierPathTypeUsesIndex);
     }
 
     private static void testMobBarrierConfigDefaultEmpty(GameTestHelper helper) {
@@ -1258,6 +1505,37 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testMobBarrierPathTypeUsesIndex(GameTestHelper helper) {
+        BlockPos barrierPos = new BlockPos(1, 1, 1);
+        helper.setBlock(barrierPos, FloraFaunaRegistry.MOB_BARRIER.get().defaultBlockState());
+        MobBarrierBlockEntity barrier = helper.getBlockEntity(barrierPos, MobBarrierBlockEntity.class);
+        if (barrier == null) {
+            throw helper.assertionException("Block entity is not MobBarrierBlockEntity");
+        }
+        barrier.setConfig(MobBarrierConfig.DEFAULT.withAddedEntityId("minecraft:zombie"));
+
+        BlockPos absPos = helper.absolutePos(barrierPos);
+        BlockState state = helper.getBlockState(barrierPos);
+        var zombie = helper.spawn(EntityType.ZOMBIE, new BlockPos(0, 1, 0));
+        var cow = helper.spawn(EntityType.COW, new BlockPos(2, 1, 2));
+
+        // A getter with no block entities: the answer can only come from the index
+        if (state.getBlock().getBlockPathType(state, EmptyBlockGetter.INSTANCE, absPos, zombie) != PathType.BLOCKED) {
+            throw helper.assertionException("Indexed barrier should be BLOCKED for a configured mob without a block entity lookup");
+        }
+
+        // The region pathfinding actually passes
+        PathNavigationRegion region = new PathNavigationRegion(helper.getLevel(), absPos.offset(-1, -1, -1), absPos.offset(1, 1, 1));
+        if (state.getBlock().getBlockPathType(state, region, absPos, zombie) != PathType.BLOCKED) {
+            throw helper.assertionException("Barrier should be BLOCKED for a configured mob in a pathfinding region");
+        }
+        if (state.getBlock().getBlockPathType(state, region, absPos, cow) != null) {
+            throw helper.assertionException("Barrier should not change the path type for an unconfigured mob");
+        }
+
+        helper.succeed();
+    }
+
     // ==================== Mining Anchor Tests ====================
 
     private static void registerMiningAnchorTests(RegisterGameTestsEvent event, Holder<TestEnvironmentDefinition> env) {
@@ -1270,6 +1548,9 @@ public class FloraFaunaGameTests {
         registerTest(event, env, "anchor_tier1_capacity", FloraFaunaGameTests::testAnchorTier1Capacity);
         registerTest(event, env, "anchor_tier2_capacity", FloraFaunaGameTests::testAnchorTier2Capacity);
         registerTest(event, env, "anchor_fill_state_potential_capacity", FloraFaunaGameTests::testAnchorFillStatePotentialCapacity);
+        registerTest(event, env, "anchor_stored_count_tracks_pod_deltas", FloraFaunaGameTests::testAnchorStoredCountTracksPodDeltas);
+        registerTest(event, env, "anchor_pod_spawn_ring_skips_blocked", FloraFaunaGameTests::testAnchorPodSpawnRingSkipsBlocked);
+        registerTest(event, env, "anchor_batches_pod_fill_and_sync", FloraFaunaGameTests::testAnchorBatchesPodFillAndSync);
     }
 
     private static void testAnchorFillStateNormal(GameTestHelper helper) {
@@ -1505,6 +1786,115 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testAnchorStoredCountTracksPodDeltas(GameTestHelper helper) {
+        BlockPos anchorPos = new BlockPos(2, 1, 2);
+        helper.setBlock(anchorPos, FloraFaunaRegistry.TIER1_MINING_ANCHOR.get().defaultBlockState());
+        Tier1MiningAnchorBlockEntity anchor = helper.getBlockEntity(anchorPos, Tier1MiningAnchorBlockEntity.class);
+
+        // 1800 of the 2304 potential items is past the warning threshold
+        anchor.addItems(new ItemStack(Items.COBBLESTONE, 1800));
+        if (anchor.getStoredCount() != 1800 || anchor.getFillState() != AnchorFillState.WARNING) {
+            throw helper.assertionException("Anchor should hold 1800 items in WARNING, got: "
+                    + anchor.getStoredCount() + " " + anchor.getFillState());
+        }
+
+        // Emptying a pod directly pushes its delta to the anchor, no recount needed
+        if (!(helper.getLevel().getBlockEntity(anchor.getPodPositions().get(0)) instanceof Tier1PodBlockEntity pod)) {
+            throw helper.assertionException("First pod should have been spawned");
+        }
+        int podCount = pod.getStoredCount();
+        pod.getBuffer().clear();
+        if (anchor.getStoredCount() != 1800 - podCount) {
+            throw helper.assertionException("Stored count should drop by the pod's " + podCount + " items, got: "
+                    + anchor.getStoredCount());
+        }
+
+        // The delta marks the fill state for a recheck on the anchor's next tick
+        helper.runAfterDelay(2, () -> {
+            VacuumState state = helper.getBlockState(anchorPos).getValue(AbstractVacuumBlockEntity.STATE);
+            if (state != VacuumState.NORMAL) {
+                throw helper.assertionException("Anchor should be back to NORMAL after the pod emptied, got: " + state);
+            }
+            helper.succeed();
+        });
+    }
+
+    private static void testAnchorPodSpawnRingSkipsBlocked(GameTestHelper helper) {
+        // The ring lists each offset once: same level first, then closest first
+        List<BlockPos> ring = PodSpawnRing.offsetsFor(2);
+        if (ring.size() != 48 || new HashSet<>(ring).size() != ring.size()) {
+            throw helper.assertionException("Radius 2 ring should have 48 distinct offsets, got: " + ring.size());
+        }
+        if (ring.get(0).distSqr(BlockPos.ZERO) != 1 || ring.get(0).getY() != 0 || ring.get(24).getY() != 1) {
+            throw helper.assertionException("Ring should start adjacent on the anchor's level, got: " + ring);
+        }
+
+        // Block every same-level neighbor, so the first pod goes one ring out
+        BlockPos anchorPos = new BlockPos(2, 1, 2);
+        helper.setBlock(anchorPos, FloraFaunaRegistry.TIER1_MINING_ANCHOR.get().defaultBlockState());
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (dx != 0 || dz != 0) {
+                    helper.setBlock(anchorPos.offset(dx, 0, dz), Blocks.STONE);
+                }
+            }
+        }
+        Tier1MiningAnchorBlockEntity anchor = helper.getBlockEntity(anchorPos, Tier1MiningAnchorBlockEntity.class);
+        if (!anchor.forceSpawnPod()) {
+            throw helper.assertionException("Anchor should find a pod spot in the second ring");
+        }
+        BlockPos firstOffset = anchor.getPodPositions().get(0).subtract(helper.absolutePos(anchorPos));
+        if (firstOffset.getY() != 0 || Math.max(Math.abs(firstOffset.getX()), Math.abs(firstOffset.getZ())) != 2) {
+            throw helper.assertionException("First pod should be in the second ring on the same level, got offset: " + firstOffset);
+        }
+
+        // Freeing a neighbor notifies the anchor, which forgets the blocked spots
+        helper.setBlock(anchorPos.east(), Blocks.AIR);
+        if (!anchor.forceSpawnPod()) {
+            throw helper.assertionException("Anchor should spawn a second pod");
+        }
+        if (!anchor.getPodPositions().get(1).equals(helper.absolutePos(anchorPos.east()))) {
+            throw helper.assertionException("Second pod should take the freed neighbor, got: " + anchor.getPodPositions().get(1));
+        }
+
+        helper.succeed();
+    }
+
+    private static void testAnchorBatchesPodFillAndSync(GameTestHelper helper) {
+        BlockPos anchorPos = new BlockPos(2, 1, 2);
+        helper.setBlock(anchorPos, FloraFaunaRegistry.TIER1_MINING_ANCHOR.get().defaultBlockState());
+        Tier1MiningAnchorBlockEntity anchor = helper.getBlockEntity(anchorPos, Tier1MiningAnchorBlockEntity.class);
+
+        // Two batches in one tick: the closest pod fills first, the rest spills into a second pod
+        int podCapacity = Tier1PodBlockEntity.SLOT_COUNT * 64;
+        anchor.addItems(new ItemStack(Items.COBBLESTONE, podCapacity - 20));
+        anchor.addItems(new ItemStack(Items.COBBLESTONE, 120));
+        List<BlockPos> podPositions = anchor.getPodPositions();
+        if (podPositions.size() != 2) {
+            throw helper.assertionException("Two pods should have been spawned, got: " + podPositions.size());
+        }
+        if (!(helper.getLevel().getBlockEntity(podPositions.get(0)) instanceof Tier1PodBlockEntity first)
+                || !(helper.getLevel().getBlockEntity(podPositions.get(1)) instanceof Tier1PodBlockEntity second)) {
+            throw helper.assertionException("Both pods should have block entities");
+        }
+        if (!first.isFull() || second.getStoredCount() != 100) {
+            throw helper.assertionException("First pod should be full and the second hold 100, got: "
+                    + first.getStoredCount() + " and " + second.getStoredCount());
+        }
+
+        // Pods are not synced per batch; each gets one delta on the anchor's next tick
+        if (first.getBuffer().getSyncVersion() != 0 || !first.getBuffer().hasChangedSlots()) {
+            throw helper.assertionException("Pod changes should wait for the anchor's tick");
+        }
+        helper.runAfterDelay(2, () -> {
+            if (first.getBuffer().getSyncVersion() != 1 || second.getBuffer().getSyncVersion() != 1) {
+                throw helper.assertionException("Each pod should have synced once, got versions: "
+                        + first.getBuffer().getSyncVersion() + " and " + second.getBuffer().getSyncVersion());
+            }
+            helper.succeed();
+        });
+    }
+
     // ==================== Husk Tests ====================
 
     private static void registerHuskTests(RegisterGameTestsEvent event, Holder<TestEnvironmentDefinition> env) {
@@ -1614,6 +2004,9 @@ public class FloraFaunaGameTests {
         registerTest(event, env, "mob_symbiote_data_release_immunity", FloraFaunaGameTests::testMobSymbioteDataReleaseImmunity);
         registerTest(event, env, "captured_mob_buffer_capacity", FloraFaunaGameTests::testCapturedMobBufferCapacity);
         registerTest(event, env, "captured_mob_buffer_add_poll", FloraFaunaGameTests::testCapturedMobBufferAddPoll);
+        registerTest(event, env, "captured_mob_buffer_deadline_order", FloraFaunaGameTests::testCapturedMobBufferDeadlineOrder);
+        registerTest(event, env, "captured_mob_ticket_data_roundtrip", FloraFaunaGameTests::testCapturedMobTicketDataRoundtrip);
+        registerTest(event, env, "mob_transport_parks_tickets_for_unloaded_output", FloraFaunaGameTests::testMobTransportParksTicketsForUnloadedOutput);
         registerTest(event, env, "mob_capture_eligibility_player", FloraFaunaGameTests::testMobCaptureEligibilityPlayer);
         registerTest(event, env, "mob_capture_eligibility_boss", FloraFaunaGameTests::testMobCaptureEligibilityBoss);
         registerTest(event, env, "mob_capture_eligibility_not_bondable", FloraFaunaGameTests::testMobCaptureEligibilityNotBondable);
@@ -1627,6 +2020,9 @@ public class FloraFaunaGameTests {
         // MobSymbiote item and MobOutput release tests
         registerTest(event, env, "mob_symbiote_item_bonds_mob", FloraFaunaGameTests::testMobSymbioteItemBondsMob);
         registerTest(event, env, "mob_output_release_clears_lure_goal", FloraFaunaGameTests::testMobOutputReleaseClearsLureGoal);
+        registerTest(event, env, "mob_output_spreads_released_mobs", FloraFaunaGameTests::testMobOutputSpreadsReleasedMobs);
+        registerTest(event, env, "mob_output_bulk_releases_up_to_max_per_check", FloraFaunaGameTests::testMobOutputBulkReleasesUpToMaxPerCheck);
+        registerTest(event, env, "mob_input_recovers_lured_mobs_after_reload", FloraFaunaGameTests::testMobInputRecoversLuredMobsAfterReload);
     }
 
     private static void testMobSymbioteDataDefault(GameTestHelper helper) {
@@ -1781,6 +2177,95 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testCapturedMobBufferDeadlineOrder(GameTestHelper helper) {
+        CapturedMobBuffer buffer = new CapturedMobBuffer(5);
+
+        // Added out of deadline order; zombie and skeleton share a deadline
+        buffer.add(CapturedMobTicket.create(EntityType.COW, new CompoundTag(), 0L, 300L, null, null));
+        buffer.add(CapturedMobTicket.create(EntityType.ZOMBIE, new CompoundTag(), 0L, 100L, null, null));
+        buffer.add(CapturedMobTicket.create(EntityType.SKELETON, new CompoundTag(), 0L, 100L, null, null));
+
+        if (buffer.getNextReleaseEta(50L) != 50L) {
+            throw helper.assertionException("Next release ETA should be 50, got: " + buffer.getNextReleaseEta(50L));
+        }
+        if (buffer.pollReadyTicket(99L).isPresent()) {
+            throw helper.assertionException("No ticket should be ready before tick 100");
+        }
+
+        EntityType<?>[] expected = {EntityType.ZOMBIE, EntityType.SKELETON, EntityType.COW};
+        for (EntityType<?> type : expected) {
+            var polled = buffer.pollReadyTicket(300L);
+            if (polled.isEmpty() || !polled.get().entityTypeId().equals(BuiltInRegistries.ENTITY_TYPE.getKey(type))) {
+                throw helper.assertionException("Expected " + BuiltInRegistries.ENTITY_TYPE.getKey(type) + " next, got: "
+                        + polled.map(CapturedMobTicket::entityTypeId).orElse(null));
+            }
+        }
+        if (!buffer.isEmpty() || buffer.getNextReleaseEta(300L) != -1) {
+            throw helper.assertionException("Buffer should be empty after polling all tickets");
+        }
+
+        helper.succeed();
+    }
+
+    private static void testCapturedMobTicketDataRoundtrip(GameTestHelper helper) {
+        CompoundTag small = new CompoundTag();
+        small.putString("CustomName", "Bessie");
+
+        // Large, repetitive tag to exercise the deflated encoding
+        CompoundTag large = new CompoundTag();
+        for (int i = 0; i < 200; i++) {
+            large.putString("trade_" + i, "minecraft:emerald");
+        }
+
+        for (CompoundTag original : List.of(small, large)) {
+            CapturedMobTicket ticket = CapturedMobTicket.create(EntityType.VILLAGER, original, 0L, 100L, null, null);
+            if (!ticket.entityNbt().equals(original)) {
+                throw helper.assertionException("Decoded entity NBT should match the captured tag");
+            }
+        }
+
+        CapturedMobTicket largeTicket = CapturedMobTicket.create(EntityType.VILLAGER, large, 0L, 100L, null, null);
+        if (largeTicket.encodedSize() >= large.sizeInBytes()) {
+            throw helper.assertionException("Large ticket data should be compressed, got " + largeTicket.encodedSize() + " bytes");
+        }
+
+        helper.succeed();
+    }
+
+    private static void testMobTransportParksTicketsForUnloadedOutput(GameTestHelper helper) {
+        MobTransportNetwork network = new MobTransportNetwork();
+        GlobalPos output = GlobalPos.of(helper.getLevel().dimension(), helper.absolutePos(new BlockPos(100000, 1, 100000)));
+        GlobalPos input = GlobalPos.of(helper.getLevel().dimension(), helper.absolutePos(new BlockPos(0, 1, 0)));
+
+        if (MobTransportNetwork.getLoadedBlockEntity(helper.getLevel().getServer(), output) != null) {
+            throw helper.assertionException("Test output position should not be loaded");
+        }
+
+        network.registerOutput(output);
+        CapturedMobTicket first = CapturedMobTicket.create(EntityType.ZOMBIE, new CompoundTag(), 1000L, 1100L, null, null);
+        CapturedMobTicket second = CapturedMobTicket.create(EntityType.SKELETON, new CompoundTag(), 1000L, 1100L, null, null);
+        network.send(output, first);
+        network.send(output, second);
+
+        // The output collects its deliveries in arrival order when it loads
+        List<CapturedMobTicket> delivered = network.collect(output);
+        if (!delivered.equals(List.of(first, second))) {
+            throw helper.assertionException("Collect should return both parked tickets in arrival order, got: " + delivered);
+        }
+        if (!network.collect(output).isEmpty()) {
+            throw helper.assertionException("A second collect should find nothing in flight");
+        }
+
+        // Removing the output drops pairings that were still waiting to reach it
+        network.requestPairing(input, output);
+        network.unregisterOutput(output);
+        if (network.takePendingPairing(input) != null) {
+            throw helper.assertionException("Pending pairing to a removed output should be dropped");
+        }
+
+        helper.succeed();
+    }
+
     private static void testMobCaptureEligibilityPlayer(GameTestHelper helper) {
         ServerPlayer player = helper.makeMockServerPlayerInLevel();
 
@@ -2069,6 +2554,126 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testMobInputRecoversLuredMobsAfterReload(GameTestHelper helper) {
+        BlockPos inputPos = new BlockPos(0, 1, 0);
+        BlockPos absInputPos = helper.absolutePos(inputPos);
+        helper.setBlock(inputPos, FloraFaunaRegistry.MOB_INPUT.get().defaultBlockState());
+
+        // Mobs lured here before a reload, now standing outside the lure area
+        var wanderer = helper.spawn(EntityType.ZOMBIE, new BlockPos(Config.lureRadius + 4, 1, 0));
+        var bystander = helper.spawn(EntityType.ZOMBIE, new BlockPos(0, 1, Config.lureRadius + 4));
+        for (var zombie : List.of(wanderer, bystander)) {
+            zombie.setNoAi(true);
+            MobSymbioteHelper.applyMobSymbioteLevel1(zombie, 0L);
+            MobSymbioteHelper.startLuring(zombie, absInputPos);
+        }
+
+        // A freshly loaded input that is removed before it ticks still releases its lured mobs
+        MobInputBlockEntity removed = reloadBlockEntity(helper, inputPos, MobInputBlockEntity.class);
+        removed.onRemoved();
+        if (MobSymbioteHelper.isBeingLuredTo(bystander, absInputPos)) {
+            throw helper.assertionException("Removing a reloaded input should stop luring its mobs");
+        }
+
+        // A reloaded input finds the wanderer again and drops it for being out of range
+        MobSymbioteHelper.startLuring(wanderer, absInputPos);
+        reloadBlockEntity(helper, inputPos, MobInputBlockEntity.class);
+        helper.runAfterDelay(Config.lureIntervalTicks + 5, () -> {
+            if (MobSymbioteHelper.isBeingLuredTo(wanderer, absInputPos)) {
+                throw helper.assertionException("Reloaded input should stop luring a mob outside its lure area");
+            }
+            helper.succeed();
+        });
+    }
+
+    private static void testMobOutputSpreadsReleasedMobs(GameTestHelper helper) {
+        // Solid floor around the output so ring spots are valid
+        for (int x = 0; x <= 4; x++) {
+            for (int z = 0; z <= 4; z++) {
+                helper.setBlock(new BlockPos(x, 0, z), Blocks.STONE);
+            }
+        }
+        BlockPos outputPos = new BlockPos(2, 1, 2);
+        helper.setBlock(outputPos, FloraFaunaRegistry.MOB_OUTPUT.get().defaultBlockState());
+        MobOutputBlockEntity output = helper.getBlockEntity(outputPos, MobOutputBlockEntity.class);
+        if (output == null) {
+            throw helper.assertionException("Block entity is not MobOutputBlockEntity");
+        }
+
+        // Three ready tickets for mobs that stay where they are put
+        CompoundTag noAi = new CompoundTag();
+        noAi.putBoolean("NoAI", true);
+        int released = 3;
+        for (int i = 0; i < released; i++) {
+            output.acceptTicket(CapturedMobTicket.create(EntityType.COW, noAi.copy(), 0L, 0L, null, null));
+        }
+
+        helper.runAfterDelay((long) Config.releaseCheckIntervalTicks * released + 5, () -> {
+            AABB area = new AABB(helper.absolutePos(outputPos)).inflate(Config.releaseSpreadRadius + 1);
+            var cows = helper.getLevel().getEntities(EntityType.COW, area, cow -> true);
+            if (cows.size() != released) {
+                throw helper.assertionException("Expected " + released + " released cows, got: " + cows.size());
+            }
+            Set<BlockPos> spots = new HashSet<>();
+            for (var cow : cows) {
+                spots.add(cow.blockPosition());
+            }
+            if (spots.size() != released) {
+                throw helper.assertionException("Released cows should land in different spots, got: " + spots);
+            }
+            helper.succeed();
+        });
+    }
+
+    private static void testMobOutputBulkReleasesUpToMaxPerCheck(GameTestHelper helper) {
+        // Raise the per-check limit, with a budget large enough that only the count caps the batch
+        int savedMaxPerCheck = Config.releaseMaxPerCheck;
+        int savedTimeBudget = Config.releaseTimeBudgetMicros;
+        Config.releaseMaxPerCheck = 3;
+        Config.releaseTimeBudgetMicros = 20000;
+
+        for (int x = 0; x <= 4; x++) {
+            for (int z = 0; z <= 4; z++) {
+                helper.setBlock(new BlockPos(x, 0, z), Blocks.STONE);
+            }
+        }
+        BlockPos outputPos = new BlockPos(2, 1, 2);
+        helper.setBlock(outputPos, FloraFaunaRegistry.MOB_OUTPUT.get().defaultBlockState());
+        MobOutputBlockEntity output = helper.getBlockEntity(outputPos, MobOutputBlockEntity.class);
+        if (output == null) {
+            Config.releaseMaxPerCheck = savedMaxPerCheck;
+            Config.releaseTimeBudgetMicros = savedTimeBudget;
+            throw helper.assertionException("Block entity is not MobOutputBlockEntity");
+        }
+
+        // More ready tickets than one check may release
+        CompoundTag noAi = new CompoundTag();
+        noAi.putBoolean("NoAI", true);
+        int queued = 5;
+        for (int i = 0; i < queued; i++) {
+            output.acceptTicket(CapturedMobTicket.create(EntityType.COW, noAi.copy(), 0L, 0L, null, null));
+        }
+
+        // The first tick runs a check; the next one is a full interval away
+        helper.runAfterDelay(Math.max(1, Config.releaseCheckIntervalTicks / 2), () -> {
+            try {
+                AABB area = new AABB(helper.absolutePos(outputPos)).inflate(Config.releaseSpreadRadius + 1);
+                int cows = helper.getLevel().getEntities(EntityType.COW, area, cow -> true).size();
+                if (cows != Config.releaseMaxPerCheck) {
+                    throw helper.assertionException("Expected " + Config.releaseMaxPerCheck + " cows from one check, got: " + cows);
+                }
+                if (output.getPendingReleaseCount() != queued - Config.releaseMaxPerCheck) {
+                    throw helper.assertionException("Expected " + (queued - Config.releaseMaxPerCheck)
+                            + " tickets left pending, got: " + output.getPendingReleaseCount());
+                }
+            } finally {
+                Config.releaseMaxPerCheck = savedMaxPerCheck;
+                Config.releaseTimeBudgetMicros = savedTimeBudget;
+            }
+            helper.succeed();
+        });
+    }
+
     // ==================== Fear System Tests ====================
 
     private static void registerFearSystemTests(RegisterGameTestsEvent event, Holder<TestEnvironmentDefinition> env) {
@@ -2076,15 +2681,26 @@ public class FloraFaunaGameTests {
         registerTest(event, env, "fear_data_default_state", FloraFaunaGameTests::testFearDataDefaultState);
         registerTest(event, env, "fear_data_state_transitions", FloraFaunaGameTests::testFearDataStateTransitions);
         registerTest(event, env, "fear_data_leak_count", FloraFaunaGameTests::testFearDataLeakCount);
+        registerTest(event, env, "fear_data_field_delta_sync", FloraFaunaGameTests::testFearDataFieldDeltaSync);
         registerTest(event, env, "fear_data_fear_source_pos", FloraFaunaGameTests::testFearDataFearSourcePos);
         registerTest(event, env, "fear_data_ticks_in_state", FloraFaunaGameTests::testFearDataTicksInState);
 
         // FearSourceDetector tests
         registerTest(event, env, "fear_source_creeper_sources", FloraFaunaGameTests::testFearSourceCreeperSources);
         registerTest(event, env, "fear_source_record_creation", FloraFaunaGameTests::testFearSourceRecordCreation);
+        registerTest(event, env, "fear_source_registry_tracks_sources", FloraFaunaGameTests::testFearSourceRegistryTracksSources);
 
         // AreaScanner tests
         registerTest(event, env, "area_scanner_count_blocks", FloraFaunaGameTests::testAreaScannerCountBlocks);
+
+        // LineOfSight tests
+        registerTest(event, env, "line_of_sight_stops_at_opaque_block", FloraFaunaGameTests::testLineOfSightStopsAtOpaqueBlock);
+
+        // FearBlockIndex tests
+        registerTest(event, env, "fear_block_index_tracks_changes", FloraFaunaGameTests::testFearBlockIndexTracksChanges);
+
+        // FearScheduler tests
+        registerTest(event, env, "fear_scheduler_staggers_and_budgets_checks", FloraFaunaGameTests::testFearSchedulerStaggersAndBudgetsChecks);
     }
 
     private static void testFearStateHelperMethods(GameTestHelper helper) {
@@ -2177,6 +2793,50 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testFearDataFieldDeltaSync(GameTestHelper helper) {
+        var creeper = helper.spawn(EntityType.CREEPER, new BlockPos(1, 1, 1));
+
+        // Two changes to the same field in one tick collapse into one pending value
+        TrackedAttachment.update(creeper, FloraFaunaRegistry.FEAR_DATA, data -> data.withLeakCount(2));
+        TrackedAttachment.update(creeper, FloraFaunaRegistry.FEAR_DATA, FearData::incrementLeakCount);
+        TrackedAttachment<FearData> server = creeper.getData(FloraFaunaRegistry.FEAR_DATA);
+
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), helper.getLevel().registryAccess());
+        FearData.SYNC_FIELDS.write(buf, server, false);
+
+        // Only the leak count changed: one mask byte plus one varint
+        if (buf.readableBytes() != 2) {
+            throw helper.assertionException("Delta sync should send only the changed field, wrote " + buf.readableBytes() + " bytes");
+        }
+
+        TrackedAttachment<FearData> client = new TrackedAttachment<>(FearData.DEFAULT);
+        FearData.SYNC_FIELDS.read(creeper, buf, client);
+        if (!client.get().equals(server.get())) {
+            throw helper.assertionException("Client should match server after delta sync, got: " + client.get());
+        }
+
+        // A delta lands on the client's previous value, keeping the fields it does not carry
+        BlockPos sourcePos = new BlockPos(4, 5, 6);
+        TrackedAttachment<FearData> movedClient = new TrackedAttachment<>(FearData.DEFAULT.withFearSourcePos(sourcePos));
+        buf.clear();
+        FearData.SYNC_FIELDS.write(buf, server, false);
+        FearData.SYNC_FIELDS.read(creeper, buf, movedClient);
+        if (movedClient.get().leakCountSinceCooldown() != 3
+                || !movedClient.get().getFearSourcePos().equals(Optional.of(sourcePos))) {
+            throw helper.assertionException("Delta should update the leak count and keep the source position, got: " + movedClient.get());
+        }
+
+        // A player who starts tracking gets every field
+        buf.clear();
+        FearData.SYNC_FIELDS.write(buf, server, true);
+        FearData full = FearData.SYNC_FIELDS.read(creeper, buf, null).get();
+        if (!full.equals(server.get())) {
+            throw helper.assertionException("Initial sync should carry the full state, got: " + full);
+        }
+
+        helper.succeed();
+    }
+
     private static void testFearDataLeakCount(GameTestHelper helper) {
         FearData data = FearData.DEFAULT;
 
@@ -2300,6 +2960,51 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testFearSourceRegistryTracksSources(GameTestHelper helper) {
+        var cat = helper.spawn(EntityType.CAT, new BlockPos(1, 1, 1));
+        var stand = helper.spawn(EntityType.ARMOR_STAND, new BlockPos(2, 1, 1));
+        AABB area = new AABB(helper.absolutePos(BlockPos.ZERO)).inflate(4);
+
+        if (FearSourceRegistry.kindOf(cat) != FearSourceRegistry.Kind.FELINE) {
+            throw helper.assertionException("Cat should register as a FELINE source");
+        }
+
+        List<Entity> felines = FearSourceRegistry.findSources(helper.getLevel(),
+                FearSourceRegistry.Kind.FELINE, Entity.class, area, entity -> true);
+        if (!felines.contains(cat) || felines.contains(stand)) {
+            throw helper.assertionException("FELINE lookup should return the cat only, got: " + felines);
+        }
+
+        // Moving into another section moves the cat's bucket
+        Vec3 farPos = cat.position().add(0, 48, 0);
+        cat.setPos(farPos);
+        if (FearSourceRegistry.findSources(helper.getLevel(), FearSourceRegistry.Kind.FELINE, Entity.class, area,
+                entity -> true).contains(cat)) {
+            throw helper.assertionException("Cat should no longer be found at its old position");
+        }
+        if (!FearSourceRegistry.findSources(helper.getLevel(), FearSourceRegistry.Kind.FELINE, Entity.class,
+                new AABB(farPos, farPos).inflate(4), entity -> true).contains(cat)) {
+            throw helper.assertionException("Cat should be found at its new position");
+        }
+
+        // Bare armor stands are not registered until they wear a staring face
+        if (!FearSourceRegistry.findSources(helper.getLevel(), FearSourceRegistry.Kind.ARMOR_STAND,
+                ArmorStand.class, area, armorStand -> true).isEmpty()) {
+            throw helper.assertionException("Bare armor stand should not be registered");
+        }
+        stand.setItemSlot(EquipmentSlot.HEAD, new ItemStack(Items.CARVED_PUMPKIN));
+
+        // The equipment change is picked up on the stand's next tick
+        helper.runAfterDelay(2, () -> {
+            List<ArmorStand> staring = FearSourceRegistry.findSources(helper.getLevel(),
+                    FearSourceRegistry.Kind.ARMOR_STAND, ArmorStand.class, area, armorStand -> true);
+            if (!staring.contains(stand)) {
+                throw helper.assertionException("Armor stand with a carved pumpkin should be registered");
+            }
+            helper.succeed();
+        });
+    }
+
     private static void testAreaScannerCountBlocks(GameTestHelper helper) {
         // Test AreaScanner.countBlocks with a predicate
         // In GameTest, we have access to a real level through helper
@@ -2328,11 +3033,162 @@ public class FloraFaunaGameTests {
         helper.succeed();
     }
 
+    private static void testLineOfSightStopsAtOpaqueBlock(GameTestHelper helper) {
+        LineOfSight.OpacityTest<Void> stoneIsOpaque =
+                (level, pos, context) -> level.getBlockState(pos).is(Blocks.STONE);
+        Vec3 start = Vec3.atCenterOf(helper.absolutePos(new BlockPos(0, 2, 0)));
+        Vec3 end = Vec3.atCenterOf(helper.absolutePos(new BlockPos(4, 3, 1)));
+
+        if (!LineOfSight.isClear(helper.getLevel(), start, end, stoneIsOpaque, null)) {
+            throw helper.assertionException("Empty space should have clear line of sight");
+        }
+
+        // Every voxel on the segment is visited, so a single block anywhere along it blocks the view
+        helper.setBlock(new BlockPos(2, 2, 0), Blocks.STONE);
+        if (LineOfSight.isClear(helper.getLevel(), start, end, stoneIsOpaque, null)) {
+            throw helper.assertionException("Stone on the segment should block line of sight");
+        }
+
+        // A block beside the segment does not
+        helper.setBlock(new BlockPos(2, 2, 0), Blocks.AIR);
+        helper.setBlock(new BlockPos(2, 2, 2), Blocks.STONE);
+        if (!LineOfSight.isClear(helper.getLevel(), start, end, stoneIsOpaque, null)) {
+            throw helper.assertionException("Stone beside the segment should not block line of sight");
+        }
+
+        helper.succeed();
+    }
+
+    private static void testFearBlockIndexTracksChanges(GameTestHelper helper) {
+        BlockPos center = new BlockPos(1, 2, 1);
+        BlockPos absCenter = helper.absolutePos(center);
+
+        // First query indexes the section before any cold blocks exist
+        int before = FearBlockIndex.countInCube(helper.getLevel(), absCenter, 1, FloraFaunaTags.Blocks.COLD_BLOCKS);
+        if (before != 0) {
+            throw helper.assertionException("Should start with no cold blocks, found: " + before);
+        }
+
+        // Placing blocks must update the already-indexed section
+        helper.setBlock(center, Blocks.ICE);
+        helper.setBlock(center.above(), Blocks.SNOW_BLOCK);
+        helper.setBlock(center.east(), Blocks.STONE);
+
+        int placed = FearBlockIndex.countInCube(helper.getLevel(), absCenter, 1, FloraFaunaTags.Blocks.COLD_BLOCKS);
+        if (placed != 2) {
+            throw helper.assertionException("Should index 2 cold blocks after placing, found: " + placed);
+        }
+
+        List<BlockPos> found = FearBlockIndex.findInBox(helper.getLevel(), absCenter, absCenter,
+                FloraFaunaTags.Blocks.COLD_BLOCKS);
+        if (!found.equals(List.of(absCenter))) {
+            throw helper.assertionException("Box query should return only the ice block, got: " + found);
+        }
+
+        // Breaking a block must remove it
+        helper.setBlock(center, Blocks.AIR);
+        int broken = FearBlockIndex.countInCube(helper.getLevel(), absCenter, 1, FloraFaunaTags.Blocks.COLD_BLOCKS);
+        if (broken != 1) {
+            throw helper.assertionException("Should index 1 cold block after breaking, found: " + broken);
+        }
+
+        helper.succeed();
+    }
+
+    private static void testFearSchedulerStaggersAndBudgetsChecks(GameTestHelper helper) {
+        // Both phases change fear config, so they run in sequence within one test
+        int savedInterval = Config.fearCheckIntervalTicks;
+        int savedBudget = Config.fearCheckBudgetMicros;
+        Runnable restoreConfig = () -> {
+            Config.fearCheckIntervalTicks = savedInterval;
+            Config.fearCheckBudgetMicros = savedBudget;
+        };
+
+        // A budget large enough that no check carries over, so each mob runs on its own slot
+        Config.fearCheckBudgetMicros = 20000;
+        int interval = Math.max(1, Config.fearCheckIntervalTicks);
+        long startTick = helper.getLevel().getGameTime();
+        List<Creeper> slotted = spawnFearfulCreepersNearCat(helper, 1, 3);
+
+        helper.runAfterDelay(interval + 2, () -> {
+            try {
+                for (Creeper creeper : slotted) {
+                    FearData data = FearHelper.getFearData(creeper);
+                    if (data.fearState() != FearState.PANICKED) {
+                        throw helper.assertionException("Creeper " + creeper.getId()
+                                + " should be checked within one interval, state: " + data.fearState());
+                    }
+                    long checkedAt = data.stateEnteredTick();
+                    if (checkedAt - startTick > interval) {
+                        throw helper.assertionException("Creeper " + creeper.getId() + " first checked "
+                                + (checkedAt - startTick) + " ticks after tracking, interval is " + interval);
+                    }
+                    if (Math.floorMod(checkedAt, (long) interval) != Math.floorMod(creeper.getId(), interval)) {
+                        throw helper.assertionException("Creeper " + creeper.getId()
+                                + " should be checked on its own slot, got tick: " + checkedAt);
+                    }
+                }
+            } catch (RuntimeException e) {
+                restoreConfig.run();
+                throw e;
+            }
+
+            // One shared slot and a zero budget: exactly one check runs per tick, the rest carry over
+            Config.fearCheckIntervalTicks = 1;
+            Config.fearCheckBudgetMicros = 0;
+            long deferredBefore = FearScheduler.getStats(helper.getLevel()).checksDeferred();
+            List<Creeper> budgeted = spawnFearfulCreepersNearCat(helper, 4, 3);
+
+            helper.runAfterDelay(20, () -> {
+                try {
+                    Set<Long> checkTicks = new HashSet<>();
+                    for (Creeper creeper : budgeted) {
+                        FearData data = FearHelper.getFearData(creeper);
+                        if (data.fearState() != FearState.PANICKED) {
+                            throw helper.assertionException("Deferred check for creeper " + creeper.getId()
+                                    + " should run on a later tick, state: " + data.fearState());
+                        }
+                        checkTicks.add(data.stateEnteredTick());
+                    }
+                    if (checkTicks.size() != budgeted.size()) {
+                        throw helper.assertionException("Over budget, creepers should be checked on different ticks, got: " + checkTicks);
+                    }
+                    if (FearScheduler.getStats(helper.getLevel()).checksDeferred() <= deferredBefore) {
+                        throw helper.assertionException("Checks over budget should be counted as deferred");
+                    }
+                } finally {
+                    restoreConfig.run();
+                }
+                helper.succeed();
+            });
+        });
+    }
+
+    /**
+     * Spawns a row of still creepers with a MobSymbiote next to a still cat, so each
+     * creeper panics on the first fear check the scheduler runs for it.
+     */
+    private static List<Creeper> spawnFearfulCreepersNearCat(GameTestHelper helper, int x, int count) {
+        helper.spawn(EntityType.CAT, new BlockPos(x, 1, 0)).setNoAi(true);
+        long currentTick = helper.getLevel().getGameTime();
+        List<Creeper> creepers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Creeper creeper = helper.spawn(EntityType.CREEPER, new BlockPos(x + 1, 1, 1 + i));
+            creeper.setNoAi(true);
+            MobSymbioteHelper.applyMobSymbioteLevel1(creeper, currentTick);
+            creepers.add(creeper);
+        }
+        return creepers;
+    }
+
     // ==================== Item Input Structure Tests ====================
 
     private static void registerItemInputStructureTests(RegisterGameTestsEvent event, Holder<TestEnvironmentDefinition> env) {
         registerStructureTest(event, env, "item_input_collects_and_transfers",
                 ITEM_INPUT_TO_CHEST_STRUCTURE, 200, FloraFaunaGameTests::testItemInputCollectsAndTransfers);
+        registerTest(event, env, "storage_anchor_tracks_container_changes", FloraFaunaGameTests::testStorageAnchorTracksContainerChanges);
+        registerTest(event, env, "storage_anchor_destination_snapshot", FloraFaunaGameTests::testStorageAnchorDestinationSnapshot);
+        registerTest(event, env, "item_input_batch_skips_keys_that_do_not_fit", FloraFaunaGameTests::testItemInputBatchSkipsKeysThatDoNotFit);
     }
 
     private static void testItemInputCollectsAndTransfers(GameTestHelper helper) {
@@ -2392,6 +3248,110 @@ public class FloraFaunaGameTests {
         });
     }
 
+    private static void testStorageAnchorTracksContainerChanges(GameTestHelper helper) {
+        BlockPos anchorPos = new BlockPos(1, 1, 1);
+        BlockPos chestPos = new BlockPos(3, 1, 1);
+        BlockPos barrelPos = new BlockPos(1, 1, 3);
+        helper.setBlock(anchorPos, FloraFaunaRegistry.STORAGE_ANCHOR.get().defaultBlockState());
+        StorageAnchorBlockEntity anchor = helper.getBlockEntity(anchorPos, StorageAnchorBlockEntity.class);
+
+        // After the initial scan, containers placed nearby are picked up from block change events
+        helper.runAfterDelay(2, () -> {
+            if (anchor.getNearbyContainerCount() != 0) {
+                throw helper.assertionException("Anchor should start with no nearby containers");
+            }
+            helper.setBlock(chestPos, Blocks.CHEST);
+            helper.setBlock(barrelPos, Blocks.BARREL);
+        });
+
+        helper.runAfterDelay(4, () -> {
+            if (anchor.getNearbyContainerCount() != 2) {
+                throw helper.assertionException("Placed chest and barrel should be discovered, got: "
+                        + anchor.getNearbyContainerCount());
+            }
+            helper.setBlock(chestPos, Blocks.AIR);
+        });
+
+        helper.runAfterDelay(6, () -> {
+            if (anchor.getNearbyContainerCount() != 1) {
+                throw helper.assertionException("Broken chest should be dropped, got: " + anchor.getNearbyContainerCount());
+            }
+            helper.succeed();
+        });
+    }
+
+    private static void testStorageAnchorDestinationSnapshot(GameTestHelper helper) {
+        BlockPos anchorPos = new BlockPos(1, 1, 1);
+        BlockPos chestPos = new BlockPos(3, 1, 1);
+        BlockPos barrelPos = new BlockPos(1, 1, 3);
+        helper.setBlock(chestPos, Blocks.CHEST);
+        helper.setBlock(barrelPos, Blocks.BARREL);
+        helper.setBlock(anchorPos, FloraFaunaRegistry.STORAGE_ANCHOR.get().defaultBlockState());
+        StorageAnchorBlockEntity anchor = helper.getBlockEntity(anchorPos, StorageAnchorBlockEntity.class);
+
+        helper.runAfterDelay(2, () -> {
+            // The snapshot is reused until the destinations change
+            List<CachedDestination> snapshot = anchor.getDestinationSnapshot();
+            if (snapshot.size() != 2 || anchor.getDestinationSnapshot() != snapshot) {
+                throw helper.assertionException("Both containers should be in one reused snapshot, got: " + snapshot.size());
+            }
+
+            // Linking rebuilds it with the linked container first
+            anchor.linkContainer(helper.absolutePos(barrelPos));
+            List<CachedDestination> linked = anchor.getDestinationSnapshot();
+            if (linked == snapshot || linked.size() != 2
+                    || !linked.get(0).destination().pos().equals(helper.absolutePos(barrelPos))) {
+                throw helper.assertionException("Linked barrel should come first in a rebuilt snapshot");
+            }
+
+            helper.setBlock(chestPos, Blocks.AIR);
+        });
+
+        helper.runAfterDelay(4, () -> {
+            List<CachedDestination> remaining = anchor.getDestinationSnapshot();
+            if (remaining.size() != 1 || remaining.get(0).handler() == null) {
+                throw helper.assertionException("Only the barrel should remain after the chest broke, got: " + remaining.size());
+            }
+            helper.succeed();
+        });
+    }
+
+    private static void testItemInputBatchSkipsKeysThatDoNotFit(GameTestHelper helper) {
+        BlockPos inputPos = new BlockPos(0, 1, 0);
+        BlockPos anchorPos = new BlockPos(2, 1, 0);
+        BlockPos chestPos = new BlockPos(4, 1, 0);
+        helper.setBlock(inputPos, FloraFaunaRegistry.ITEM_INPUT.get().defaultBlockState());
+        helper.setBlock(anchorPos, FloraFaunaRegistry.STORAGE_ANCHOR.get().defaultBlockState());
+        helper.setBlock(chestPos, Blocks.CHEST);
+
+        // A chest with no empty slot and room for only 4 more diamonds
+        ChestBlockEntity chest = helper.getBlockEntity(chestPos, ChestBlockEntity.class);
+        for (int i = 0; i < chest.getContainerSize() - 1; i++) {
+            chest.setItem(i, new ItemStack(Items.COBBLESTONE, 64));
+        }
+        chest.setItem(chest.getContainerSize() - 1, new ItemStack(Items.DIAMOND, 60));
+
+        ItemInputBlockEntity itemInput = helper.getBlockEntity(inputPos, ItemInputBlockEntity.class);
+        StorageAnchorBlockEntity anchor = helper.getBlockEntity(anchorPos, StorageAnchorBlockEntity.class);
+        itemInput.pairWithAnchor(helper.absolutePos(anchorPos));
+        anchor.linkContainer(helper.absolutePos(chestPos));
+
+        // Dirt fits nowhere, but must not stop the diamonds behind it from moving
+        itemInput.getBuffer().add(new ItemStack(Items.DIRT, 10));
+        itemInput.getBuffer().add(new ItemStack(Items.DIAMOND, 10));
+
+        helper.runAfterDelay(5, () -> {
+            ItemBuffer buffer = itemInput.getBuffer();
+            if (buffer.getStack(0).getItem() != Items.DIRT || buffer.getStack(0).getCount() != 10) {
+                throw helper.assertionException("Dirt that fits nowhere should stay buffered, got: " + buffer.getStack(0));
+            }
+            if (buffer.getStack(1).getCount() != 6 || chest.getItem(chest.getContainerSize() - 1).getCount() != 64) {
+                throw helper.assertionException("Exactly 4 diamonds should have moved, buffer has: " + buffer.getStack(1));
+            }
+            helper.succeed();
+        });
+    }
+
     // ==================== Iron Garden System Tests ====================
 
     private static void registerIronGardenSystemTests(RegisterGameTestsEvent event, Holder<TestEnvironmentDefinition> env) {